@@ -0,0 +1,70 @@
+package com.desafio.backend.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class CepConfig {
+
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public TaskExecutor cepLookupExecutor(
+            @Value("${cep.lookup.pool-size:16}") int poolSize,
+            @Value("${cep.lookup.queue-capacity:256}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("cep-lookup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * Cada consulta ao ViaCEP ocupa uma thread para a consulta compartilhada do {@code CepService} e,
+     * com hedge, mais uma para cada tentativa. Sem fila: o que não cabe é rejeitado e o CEP fica sem resposta.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public TaskExecutor cepClientExecutor(
+            @Value("${cep.client.bulkhead.max-concurrent:20}") int maxConcurrent) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrent);
+        executor.setMaxPoolSize(maxConcurrent * 3);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("cep-client-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * Com {@code spring.threads.virtual.enabled} (Java 21+), cada consulta ganha uma thread virtual. O limite
+     * de concorrência faz o papel do tamanho do pool: quem envia espera por vaga, e essa espera já conta no prazo
+     * do lote; assim o lote não dispara mais consultas do que o bulkhead do
+     * {@link com.desafio.backend.domain.service.ViaCepClient} deixaria passar.
+     */
+    @Bean("cepLookupExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public TaskExecutor cepLookupVirtualExecutor(@Value("${cep.lookup.pool-size:16}") int poolSize) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("cep-lookup-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(poolSize);
+        return executor;
+    }
+
+    @Bean("cepClientExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public TaskExecutor cepClientVirtualExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("cep-client-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
@@ -0,0 +1,52 @@
+package com.desafio.backend.api.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Conta os comandos SQL de cada requisição HTTP e registra as que passam de
+ * {@code sql.statement-budget.per-request}, com os formatos de SQL executados.
+ */
+@Configuration
+public class ConsultasConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ConsultasConfig.class);
+
+    @Bean
+    public HibernatePropertiesCustomizer contadorDeConsultasCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new ContadorDeConsultas());
+    }
+
+    @Bean
+    public OncePerRequestFilter orcamentoDeConsultasFilter(
+            @Value("${sql.statement-budget.per-request:20}") int orcamento) {
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                    throws ServletException, IOException {
+                try (ContadorDeConsultas.Escopo escopo = ContadorDeConsultas.abrir()) {
+                    chain.doFilter(request, response);
+                    if (escopo.total() > orcamento) {
+                        log.warn("{} {} executou {} comandos SQL (orçamento: {}):\n{}", request.getMethod(),
+                                request.getRequestURI(), escopo.total(), orcamento, escopo.resumo());
+                    } else if (log.isDebugEnabled()) {
+                        log.debug("{} {} executou {} comandos SQL.", request.getMethod(), request.getRequestURI(),
+                                escopo.total());
+                    }
+                }
+            }
+        };
+    }
+}
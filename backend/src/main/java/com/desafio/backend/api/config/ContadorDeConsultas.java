@@ -0,0 +1,95 @@
+package com.desafio.backend.api.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Conta os comandos SQL que o Hibernate prepara na thread atual enquanto houver um {@link Escopo} aberto,
+ * agrupando-os pelo formato (literais e listas de parâmetros normalizados). Escopos podem ser aninhados:
+ * cada comando conta no escopo atual e em todos os que o envolvem.
+ * <p>
+ * Comandos executados em outras threads (consultas de CEP em lote, por exemplo) não entram na contagem.
+ */
+public class ContadorDeConsultas implements StatementInspector {
+
+    private static final ThreadLocal<Escopo> ATUAL = new ThreadLocal<>();
+    private static final Pattern TEXTO = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERO = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern LISTA = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+    @Override
+    public String inspect(String sql) {
+        Escopo escopo = ATUAL.get();
+        if (escopo != null) {
+            String formato = formato(sql);
+            for (; escopo != null; escopo = escopo.anterior) {
+                escopo.registrar(formato);
+            }
+        }
+        return sql;
+    }
+
+    public static Escopo abrir() {
+        Escopo escopo = new Escopo(ATUAL.get());
+        ATUAL.set(escopo);
+        return escopo;
+    }
+
+    static String formato(String sql) {
+        String formato = TEXTO.matcher(sql).replaceAll("?");
+        formato = NUMERO.matcher(formato).replaceAll("?");
+        formato = LISTA.matcher(formato).replaceAll("(?...)");
+        return ESPACOS.matcher(formato).replaceAll(" ").trim();
+    }
+
+    public static final class Escopo implements AutoCloseable {
+
+        private final Escopo anterior;
+        private final Map<String, Integer> porFormato = new LinkedHashMap<>();
+        private int total;
+
+        private Escopo(Escopo anterior) {
+            this.anterior = anterior;
+        }
+
+        private void registrar(String formato) {
+            total++;
+            porFormato.merge(formato, 1, Integer::sum);
+        }
+
+        public int total() {
+            return total;
+        }
+
+        /**
+         * Formatos executados, do mais repetido para o menos repetido; um formato repetido muitas vezes em
+         * uma mesma requisição costuma ser um N+1.
+         */
+        public Map<String, Integer> porFormato() {
+            return porFormato.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+        }
+
+        public String resumo() {
+            return porFormato().entrySet().stream()
+                    .map(entrada -> entrada.getValue() + "x " + entrada.getKey())
+                    .collect(Collectors.joining("\n  ", "  ", ""));
+        }
+
+        @Override
+        public void close() {
+            if (anterior == null) {
+                ATUAL.remove();
+            } else {
+                ATUAL.set(anterior);
+            }
+        }
+    }
+}
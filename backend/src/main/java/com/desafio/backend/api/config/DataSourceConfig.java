@@ -0,0 +1,98 @@
+package com.desafio.backend.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpMethod;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Ativada só quando {@code datasource.replica.url} está definida: o pool do primário continua vindo de
+ * {@code spring.datasource.*} e as transações somente leitura passam a ir para a réplica.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "url")
+public class DataSourceConfig {
+
+    private static final Set<String> METODOS_DE_LEITURA = Set.of(
+            HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name());
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primarioDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primario");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            HikariDataSource primarioDataSource,
+            HikariDataSource replicaDataSource,
+            @Value("${datasource.replica.lag-query:}") String lagQuery,
+            @Value("${datasource.replica.max-lag:PT5S}") Duration atrasoMaximo,
+            @Value("${datasource.replica.lag-check-interval:PT1S}") Duration intervalo,
+            ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        RoteamentoDataSource roteamento = new RoteamentoDataSource(
+                primarioDataSource, replicaDataSource, lagQuery, atrasoMaximo, intervalo, entityManagerFactory);
+        roteamento.afterPropertiesSet();
+        // a conexão só é escolhida no primeiro comando, quando a transação já sabe se é somente leitura
+        return new LazyConnectionDataSourceProxy(roteamento);
+    }
+
+    @Bean
+    public OncePerRequestFilter leituraNoPrimarioFilter() {
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                    throws ServletException, IOException {
+                if (METODOS_DE_LEITURA.contains(request.getMethod())) {
+                    chain.doFilter(request, response);
+                    return;
+                }
+                RoteamentoDataSource.PRIMARIO_FORCADO.set(Boolean.TRUE);
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    RoteamentoDataSource.PRIMARIO_FORCADO.remove();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,113 @@
+package com.desafio.backend.api.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Envia transações somente leitura para a réplica e todo o resto para o primário. O atraso da réplica é
+ * medido com {@code lagQuery} no máximo uma vez por {@code intervalo}; acima de {@code atrasoMaximo}, ou se
+ * a medição falhar, as leituras voltam para o primário até a próxima medição.
+ * <p>
+ * Leituras feitas na réplica não alimentam o cache de segundo nível, para que um dado atrasado não fique
+ * em cache depois que a réplica alcançar o primário.
+ */
+public class RoteamentoDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(RoteamentoDataSource.class);
+    static final ThreadLocal<Boolean> PRIMARIO_FORCADO = new ThreadLocal<>();
+
+    enum Destino { PRIMARIO, REPLICA }
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration atrasoMaximo;
+    private final Duration intervalo;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final AtomicReference<Medicao> ultimaMedicao;
+    private final AtomicBoolean medindo = new AtomicBoolean();
+
+    public RoteamentoDataSource(DataSource primario, DataSource replica, String lagQuery, Duration atrasoMaximo,
+                                Duration intervalo, ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.atrasoMaximo = atrasoMaximo;
+        this.intervalo = intervalo;
+        this.entityManagerFactory = entityManagerFactory;
+        this.ultimaMedicao = new AtomicReference<>(new Medicao(true, System.nanoTime() - intervalo.toNanos()));
+        setTargetDataSources(Map.of(Destino.PRIMARIO, primario, Destino.REPLICA, replica));
+        setDefaultTargetDataSource(primario);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || PRIMARIO_FORCADO.get() != null
+                || !replicaEmDia()) {
+            return Destino.PRIMARIO;
+        }
+        naoAlimentarCache();
+        return Destino.REPLICA;
+    }
+
+    boolean replicaEmDia() {
+        Medicao medicao = ultimaMedicao.get();
+        if (StringUtils.hasText(lagQuery) && medicao.vencida(intervalo) && medindo.compareAndSet(false, true)) {
+            try {
+                medicao = medir();
+                ultimaMedicao.set(medicao);
+            } finally {
+                medindo.set(false);
+            }
+        }
+        return medicao.emDia();
+    }
+
+    private Medicao medir() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            Duration atraso = Duration.ofMillis(resultSet.next() ? Math.round(resultSet.getDouble(1) * 1000) : 0);
+            boolean emDia = atraso.compareTo(atrasoMaximo) <= 0;
+            if (emDia != ultimaMedicao.get().emDia()) {
+                log.warn(emDia ? "Réplica em dia (atraso de {} ms); leituras voltam para a réplica."
+                        : "Réplica atrasada em {} ms; leituras vão para o primário.", atraso.toMillis());
+            }
+            return new Medicao(emDia, System.nanoTime());
+        } catch (SQLException e) {
+            log.warn("Não foi possível medir o atraso da réplica; leituras vão para o primário: {}", e.getMessage());
+            return new Medicao(false, System.nanoTime());
+        }
+    }
+
+    private void naoAlimentarCache() {
+        EntityManagerFactory emf = entityManagerFactory.getIfAvailable();
+        if (emf != null && TransactionSynchronizationManager.getResource(emf) instanceof EntityManagerHolder holder) {
+            holder.getEntityManager().unwrap(Session.class).setCacheMode(CacheMode.GET);
+        }
+    }
+
+    private record Medicao(boolean emDia, long medidaEm) {
+
+        boolean vencida(Duration intervalo) {
+            return System.nanoTime() - medidaEm >= intervalo.toNanos();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.desafio.backend.api.controller;
+
+import com.desafio.backend.api.dto.CepResponseDTO;
+import com.desafio.backend.domain.exception.BusinessException;
+import com.desafio.backend.domain.exception.ResourceNotFoundException;
+import com.desafio.backend.domain.service.CepService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Consulta de CEP para o frontend, pelo mesmo caminho (cache e ViaCEP) usado nos cadastros. Endereços
+ * encontrados mudam raramente, então as respostas completas podem ficar em cache no navegador e em
+ * proxies por {@code cep.http.max-age}; CEPs não encontrados não são cacheados.
+ */
+@RestController
+@RequestMapping("/api/cep")
+public class CepController {
+
+    private final CepService cepService;
+    private final CacheControl cacheControl;
+    private final int maxLote;
+
+    public CepController(CepService cepService,
+                         @Value("${cep.http.max-age:P1D}") Duration maxAge,
+                         @Value("${cep.http.max-batch:100}") int maxLote) {
+        this.cepService = cepService;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+        this.maxLote = maxLote;
+    }
+
+    @GetMapping("/{cep}")
+    public ResponseEntity<CepResponseDTO> consultar(@PathVariable String cep, WebRequest request) {
+        String cleanedCep = exigirFormato(cep);
+        CepResponseDTO endereco = cepService.consultarCep(cleanedCep)
+                .orElseThrow(() -> new ResourceNotFoundException("CEP não encontrado: " + cleanedCep));
+        if (request.checkNotModified(etag(List.of(endereco)))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl).body(endereco);
+    }
+
+    /**
+     * Resolve vários CEPs de uma vez; a resposta é indexada pelo CEP limpo e omite os não encontrados.
+     * Só é cacheada quando todos foram encontrados.
+     */
+    @GetMapping(params = "ceps")
+    public ResponseEntity<Map<String, CepResponseDTO>> consultarLote(@RequestParam Set<String> ceps, WebRequest request) {
+        Set<String> distintos = new TreeSet<>();
+        ceps.forEach(cep -> distintos.add(exigirFormato(cep)));
+        if (distintos.size() > maxLote) {
+            throw new BusinessException("Informe no máximo " + maxLote + " CEPs por consulta.");
+        }
+        Map<String, CepResponseDTO> resolvidos = new TreeMap<>(cepService.resolveAll(distintos));
+        if (resolvidos.size() < distintos.size()) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(resolvidos);
+        }
+        if (request.checkNotModified(etag(resolvidos.values()))) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl).body(resolvidos);
+    }
+
+    private static String exigirFormato(String cep) {
+        String cleanedCep = CepService.limparCep(cep);
+        if (cleanedCep.length() != 8) {
+            throw new BusinessException("CEP deve conter 8 dígitos: " + cep);
+        }
+        return cleanedCep;
+    }
+
+    private static String etag(Collection<CepResponseDTO> enderecos) {
+        int hash = 1;
+        for (CepResponseDTO endereco : enderecos) {
+            hash = 31 * hash + Objects.hash(endereco.cep(), endereco.logradouro(), endereco.complemento(),
+                    endereco.bairro(), endereco.localidade(), endereco.uf());
+        }
+        return "\"" + Integer.toHexString(hash) + "\"";
+    }
+}
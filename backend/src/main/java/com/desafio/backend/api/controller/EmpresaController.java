@@ -1,17 +1,32 @@
 package com.desafio.backend.api.controller;
 
 import com.desafio.backend.api.dto.EmpresaDTO;
+import com.desafio.backend.api.mapper.EmpresaMapper;
+import com.desafio.backend.api.mapper.ExportacaoWriter;
+import com.desafio.backend.api.mapper.ImportacaoParser;
+import com.desafio.backend.domain.exception.BusinessException;
 import com.desafio.backend.domain.model.Empresa;
+import com.desafio.backend.domain.repository.EmpresaResumo;
+import com.desafio.backend.domain.repository.Versao;
 import com.desafio.backend.domain.service.EmpresaService;
+import com.desafio.backend.domain.service.ExportacaoService;
+import com.desafio.backend.domain.service.ImportacaoService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/empresas")
@@ -19,19 +34,53 @@ import java.util.stream.Collectors;
 public class EmpresaController {
 
     private final EmpresaService empresaService;
-    private final ModelMapper modelMapper;
+    private final EmpresaMapper empresaMapper;
+    private final ImportacaoService importacaoService;
+    private final ImportacaoParser importacaoParser;
+    private final ExportacaoService exportacaoService;
+    private final ExportacaoWriter exportacaoWriter;
 
     @GetMapping
-    public List<EmpresaDTO> listar() {
-        return empresaService.listarTodas().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public ResponseEntity<Page<EmpresaDTO>> listar(
+            @RequestParam(required = false) String nomeFantasia,
+            @RequestParam(required = false) String cnpj,
+            @RequestParam(required = false) String cep,
+            @PageableDefault(size = 10) Pageable pageable,
+            WebRequest request) {
+        if (request.checkNotModified(Versionamento.etag(empresaService.versaoDaListagem(nomeFantasia, cnpj, cep)))) {
+            return null;
+        }
+        Page<EmpresaResumo> empresaPage = empresaService.listarTodas(nomeFantasia, cnpj, cep, pageable);
+        Map<Long, Set<Long>> fornecedorIds = empresaService.buscarFornecedorIds(empresaPage.map(EmpresaResumo::id).getContent());
+        return ResponseEntity.ok()
+                .cacheControl(Versionamento.REVALIDAR)
+                .body(empresaPage.map(empresa -> empresaMapper.toDto(empresa, fornecedorIds.get(empresa.id()))));
+    }
+
+    @GetMapping("/exportacao")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @RequestParam(required = false) String nomeFantasia,
+            @RequestParam(required = false) String cnpj,
+            @RequestParam(required = false) String cep,
+            @RequestParam(defaultValue = "csv") String formato) {
+        ExportacaoWriter.Formato saida = ExportacaoWriter.Formato.of(formato);
+        StreamingResponseBody corpo = out -> exportacaoWriter.escrever(out, saida, EmpresaDTO.class, destino ->
+                exportacaoService.exportarEmpresas(nomeFantasia, cnpj, cep,
+                        (empresa, fornecedorIds) -> destino.accept(empresaMapper.toDto(empresa, fornecedorIds))));
+        return ResponseEntity.ok()
+                .contentType(saida.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=empresas." + saida.extensao())
+                .body(corpo);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EmpresaDTO> buscar(@PathVariable Long id) {
+    public ResponseEntity<EmpresaDTO> buscar(@PathVariable Long id, WebRequest request) {
+        Versao versao = empresaService.versao(id);
+        if (request.checkNotModified(Versionamento.etag(versao), Versionamento.ultimaAlteracao(versao))) {
+            return null;
+        }
         Empresa empresa = empresaService.buscarPorId(id);
-        return ResponseEntity.ok(convertToDto(empresa));
+        return ResponseEntity.ok().cacheControl(Versionamento.REVALIDAR).body(convertToDto(empresa));
     }
 
     @PostMapping
@@ -41,15 +90,41 @@ public class EmpresaController {
         return ResponseEntity.status(HttpStatus.CREATED).body(convertToDto(novaEmpresa));
     }
 
+    @PostMapping(value = "/importacao", consumes = {ImportacaoParser.TEXT_CSV, ImportacaoParser.APPLICATION_NDJSON})
+    public ImportacaoService.Resultado importar(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                InputStream corpo) throws IOException {
+        return importacaoService.importarEmpresas(
+                importacaoParser.ler(corpo, contentType, EmpresaDTO.class, this::convertToImportedEntity));
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<EmpresaDTO> atualizar(@PathVariable Long id, @Valid @RequestBody EmpresaDTO empresaDTO) {
+    public ResponseEntity<EmpresaDTO> atualizar(@PathVariable Long id, @Valid @RequestBody EmpresaDTO empresaDTO,
+                                                WebRequest request) {
+        Versao versao = empresaService.versao(id);
+        if (request.checkNotModified(Versionamento.etag(versao), Versionamento.ultimaAlteracao(versao))) {
+            return null;
+        }
         Empresa empresaExistente = empresaService.buscarPorId(id);
 
-        modelMapper.map(empresaDTO, empresaExistente);
-        empresaExistente.setId(id);
+        empresaMapper.updateEntity(empresaDTO, empresaExistente);
+
+        Empresa empresaAtualizada = empresaService.salvar(empresaExistente, empresaDTO.fornecedorIds(),
+                Versionamento.esperada(request, versao));
+        return ResponseEntity.ok()
+                .eTag(Versionamento.etag(Versao.de(empresaAtualizada)))
+                .body(convertToDto(empresaAtualizada));
+    }
+
+    @PostMapping("/{id}/fornecedores")
+    public ResponseEntity<Void> associarFornecedores(@PathVariable Long id, @RequestBody Set<Long> fornecedorIds) {
+        empresaService.associarFornecedores(id, fornecedorIds);
+        return ResponseEntity.noContent().build();
+    }
 
-        Empresa empresaAtualizada = empresaService.salvar(empresaExistente, empresaDTO.fornecedorIds());
-        return ResponseEntity.ok(convertToDto(empresaAtualizada));
+    @DeleteMapping("/{id}/fornecedores")
+    public ResponseEntity<Void> desassociarFornecedores(@PathVariable Long id, @RequestParam Set<Long> ids) {
+        empresaService.desassociarFornecedores(id, ids);
+        return ResponseEntity.noContent().build();
     }
 
     @DeleteMapping("/{id}")
@@ -59,11 +134,17 @@ public class EmpresaController {
     }
 
     private EmpresaDTO convertToDto(Empresa empresa) {
-        return modelMapper.map(empresa, EmpresaDTO.class);
+        return empresaMapper.toDto(empresa);
     }
 
     private Empresa convertToEntity(EmpresaDTO empresaDTO) {
-        Empresa empresa = modelMapper.map(empresaDTO, Empresa.class);
-        return empresa;
+        return empresaMapper.toEntity(empresaDTO);
+    }
+
+    private Empresa convertToImportedEntity(EmpresaDTO empresaDTO) {
+        if (empresaDTO.fornecedorIds() != null && !empresaDTO.fornecedorIds().isEmpty()) {
+            throw new BusinessException("A importação não aceita fornecedorIds; associe os fornecedores após importar.");
+        }
+        return convertToEntity(empresaDTO);
     }
 }
@@ -0,0 +1,41 @@
+package com.desafio.backend.api.controller;
+
+import com.desafio.backend.domain.service.CepCache;
+import com.desafio.backend.domain.service.EntidadeCache;
+import com.desafio.backend.domain.service.FornecedorPrefixIndex;
+import com.desafio.backend.domain.service.ViaCepClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/estatisticas")
+@RequiredArgsConstructor
+public class EstatisticasController {
+
+    private final CepCache cepCache;
+    private final ViaCepClient viaCepClient;
+    private final FornecedorPrefixIndex fornecedorPrefixIndex;
+    private final EntidadeCache entidadeCache;
+
+    @GetMapping("/cep-cache")
+    public CepCache.Estatisticas cepCache() {
+        return cepCache.estatisticas();
+    }
+
+    @GetMapping("/cep-client")
+    public ViaCepClient.Estatisticas cepClient() {
+        return viaCepClient.estatisticas();
+    }
+
+    @GetMapping("/fornecedor-index")
+    public FornecedorPrefixIndex.Estatisticas fornecedorIndex() {
+        return fornecedorPrefixIndex.estatisticas();
+    }
+
+    @GetMapping("/entidade-cache")
+    public EntidadeCache.Estatisticas entidadeCache() {
+        return entidadeCache.estatisticas();
+    }
+}
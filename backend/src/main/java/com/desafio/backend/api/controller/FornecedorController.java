@@ -1,42 +1,129 @@
 package com.desafio.backend.api.controller;
 
+import com.desafio.backend.api.dto.CursorPageDTO;
+import com.desafio.backend.api.dto.ExclusaoDTO;
 import com.desafio.backend.api.dto.FornecedorDTO;
+import com.desafio.backend.api.mapper.ExportacaoWriter;
+import com.desafio.backend.api.mapper.FornecedorMapper;
+import com.desafio.backend.api.mapper.ImportacaoParser;
 import com.desafio.backend.domain.exception.BusinessException;
 import com.desafio.backend.domain.model.Fornecedor;
-import com.desafio.backend.domain.model.FornecedorPessoaFisica;
-import com.desafio.backend.domain.model.FornecedorPessoaJuridica;
+import com.desafio.backend.domain.repository.FornecedorCursor;
+import com.desafio.backend.domain.repository.FornecedorResumo;
+import com.desafio.backend.domain.repository.Versao;
+import com.desafio.backend.domain.service.ExportacaoService;
+import com.desafio.backend.domain.service.FornecedorPrefixIndex;
 import com.desafio.backend.domain.service.FornecedorService;
+import com.desafio.backend.domain.service.ImportacaoService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/fornecedores")
 @RequiredArgsConstructor
 public class FornecedorController {
 
+    private static final int MAX_CURSOR_SIZE = 1000;
+    private static final int MAX_TYPEAHEAD_LIMIT = 50;
+
     private final FornecedorService fornecedorService;
-    private final ModelMapper modelMapper;
+    private final FornecedorMapper fornecedorMapper;
+    private final ImportacaoService importacaoService;
+    private final ImportacaoParser importacaoParser;
+    private final ExportacaoService exportacaoService;
+    private final ExportacaoWriter exportacaoWriter;
 
     @GetMapping
-    public Page<FornecedorDTO> listar(
+    public ResponseEntity<Page<FornecedorDTO>> listar(
+            @RequestParam(required = false) String nome,
+            @RequestParam(required = false) String identificadorFiscal,
+            @PageableDefault(size = 10) Pageable pageable,
+            WebRequest request) {
+        if (request.checkNotModified(Versionamento.etag(fornecedorService.versaoDaListagem(nome, identificadorFiscal)))) {
+            return null;
+        }
+        Page<FornecedorResumo> fornecedorPage = fornecedorService.listarTodos(nome, identificadorFiscal, pageable);
+        Map<Long, Set<Long>> empresaIds = fornecedorService.buscarEmpresaIds(
+                fornecedorPage.map(FornecedorResumo::id).getContent());
+        return ResponseEntity.ok()
+                .cacheControl(Versionamento.REVALIDAR)
+                .body(fornecedorPage.map(fornecedor -> fornecedorMapper.toDto(fornecedor, empresaIds.get(fornecedor.id()))));
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<FornecedorDTO>> listarPorCursor(
+            @RequestParam(required = false) String nome,
+            @RequestParam(required = false) String identificadorFiscal,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) {
+        if (request.checkNotModified(Versionamento.etag(fornecedorService.versaoDaListagem(nome, identificadorFiscal)))) {
+            return null;
+        }
+        FornecedorCursor cursor = StringUtils.hasText(after) ? FornecedorCursor.decode(after) : null;
+        int limite = Math.max(1, Math.min(size, MAX_CURSOR_SIZE));
+        Window<FornecedorResumo> window = fornecedorService.listarPorCursor(nome, identificadorFiscal, cursor, limite);
+
+        Map<Long, Set<Long>> empresaIds = fornecedorService.buscarEmpresaIds(
+                window.stream().map(FornecedorResumo::id).toList());
+        List<FornecedorDTO> content = window.stream()
+                .map(fornecedor -> fornecedorMapper.toDto(fornecedor, empresaIds.get(fornecedor.id())))
+                .toList();
+        String next = window.hasNext() && !window.isEmpty()
+                ? FornecedorCursor.of(window.getContent().get(window.size() - 1)).encode()
+                : null;
+        return ResponseEntity.ok()
+                .cacheControl(Versionamento.REVALIDAR)
+                .body(new CursorPageDTO<>(content, next, window.hasNext()));
+    }
+
+    @GetMapping("/typeahead")
+    public List<FornecedorPrefixIndex.Sugestao> sugerir(
+            @RequestParam("q") String termo,
+            @RequestParam(defaultValue = "10") int limit) {
+        return fornecedorService.sugerir(termo, Math.max(1, Math.min(limit, MAX_TYPEAHEAD_LIMIT)));
+    }
+
+    @GetMapping("/exportacao")
+    public ResponseEntity<StreamingResponseBody> exportar(
             @RequestParam(required = false) String nome,
             @RequestParam(required = false) String identificadorFiscal,
-            @PageableDefault(size = 10) Pageable pageable) {
-        Page<Fornecedor> fornecedorPage = fornecedorService.listarTodos(nome, identificadorFiscal, pageable);
-        return fornecedorPage.map(this::convertToDto);
+            @RequestParam(defaultValue = "csv") String formato) {
+        ExportacaoWriter.Formato saida = ExportacaoWriter.Formato.of(formato);
+        StreamingResponseBody corpo = out -> exportacaoWriter.escrever(out, saida, FornecedorDTO.class, destino ->
+                exportacaoService.exportarFornecedores(nome, identificadorFiscal,
+                        (fornecedor, empresaIds) -> destino.accept(fornecedorMapper.toDto(fornecedor, empresaIds))));
+        return ResponseEntity.ok()
+                .contentType(saida.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=fornecedores." + saida.extensao())
+                .body(corpo);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<FornecedorDTO> buscar(@PathVariable Long id) {
+    public ResponseEntity<FornecedorDTO> buscar(@PathVariable Long id, WebRequest request) {
+        Versao versao = fornecedorService.versao(id);
+        if (request.checkNotModified(Versionamento.etag(versao), Versionamento.ultimaAlteracao(versao))) {
+            return null;
+        }
         Fornecedor fornecedor = fornecedorService.buscarPorId(id);
-        return ResponseEntity.ok(convertToDto(fornecedor));
+        return ResponseEntity.ok().cacheControl(Versionamento.REVALIDAR).body(convertToDto(fornecedor));
     }
 
     @PostMapping
@@ -46,23 +133,57 @@ public class FornecedorController {
         return ResponseEntity.status(HttpStatus.CREATED).body(convertToDto(novoFornecedor));
     }
 
+    @PostMapping(value = "/importacao", consumes = {ImportacaoParser.TEXT_CSV, ImportacaoParser.APPLICATION_NDJSON})
+    public ImportacaoService.Resultado importar(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                InputStream corpo) throws IOException {
+        return importacaoService.importarFornecedores(
+                importacaoParser.ler(corpo, contentType, FornecedorDTO.class, this::convertToImportedEntity));
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<FornecedorDTO> atualizar(@PathVariable Long id, @Valid @RequestBody FornecedorDTO fornecedorDTO) {
+    public ResponseEntity<FornecedorDTO> atualizar(@PathVariable Long id, @Valid @RequestBody FornecedorDTO fornecedorDTO,
+                                                   WebRequest request) {
+        Versao versao = fornecedorService.versao(id);
+        if (request.checkNotModified(Versionamento.etag(versao), Versionamento.ultimaAlteracao(versao))) {
+            return null;
+        }
         Fornecedor fornecedorExistente = fornecedorService.buscarPorId(id);
 
-        if (!getTipoPessoaFromEntity(fornecedorExistente).equalsIgnoreCase(fornecedorDTO.getTipoPessoa())) {
+        if (!fornecedorMapper.tipoPessoa(fornecedorExistente).equalsIgnoreCase(fornecedorDTO.getTipoPessoa())) {
             throw new BusinessException("Não é permitido alterar o tipo de pessoa (Física/Jurídica) do fornecedor.");
         }
 
-        modelMapper.map(fornecedorDTO, fornecedorExistente);
+        fornecedorMapper.updateEntity(fornecedorDTO, fornecedorExistente);
 
-        if (fornecedorExistente instanceof FornecedorPessoaFisica pf && "FISICA".equalsIgnoreCase(fornecedorDTO.getTipoPessoa())) {
-            pf.setRg(fornecedorDTO.getRg());
-            pf.setDataNascimento(fornecedorDTO.getDataNascimento());
-        }
+        Fornecedor fornecedorAtualizado = fornecedorService.salvar(fornecedorExistente, fornecedorDTO.getEmpresaIds(),
+                Versionamento.esperada(request, versao));
+        return ResponseEntity.ok()
+                .eTag(Versionamento.etag(Versao.de(fornecedorAtualizado)))
+                .body(convertToDto(fornecedorAtualizado));
+    }
 
-        Fornecedor fornecedorAtualizado = fornecedorService.salvar(fornecedorExistente, fornecedorDTO.getEmpresaIds());
-        return ResponseEntity.ok(convertToDto(fornecedorAtualizado));
+    @PostMapping("/{id}/empresas")
+    public ResponseEntity<Void> associarEmpresas(@PathVariable Long id, @RequestBody Set<Long> empresaIds) {
+        fornecedorService.associarEmpresas(id, empresaIds);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{id}/empresas")
+    public ResponseEntity<Void> desassociarEmpresas(@PathVariable Long id, @RequestParam Set<Long> ids) {
+        fornecedorService.desassociarEmpresas(id, ids);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping(params = "ids")
+    public ExclusaoDTO removerTodos(@RequestParam Set<Long> ids) {
+        return new ExclusaoDTO(fornecedorService.deletarTodos(ids));
+    }
+
+    @DeleteMapping
+    public ExclusaoDTO removerPorFiltro(
+            @RequestParam(required = false) String nome,
+            @RequestParam(required = false) String identificadorFiscal) {
+        return new ExclusaoDTO(fornecedorService.deletarPorFiltro(nome, identificadorFiscal));
     }
 
     @DeleteMapping("/{id}")
@@ -72,26 +193,17 @@ public class FornecedorController {
     }
 
     private FornecedorDTO convertToDto(Fornecedor fornecedor) {
-        return modelMapper.map(fornecedor, FornecedorDTO.class);
+        return fornecedorMapper.toDto(fornecedor);
     }
 
     private Fornecedor convertToEntity(FornecedorDTO dto) {
-        Fornecedor fornecedor;
-
-        if ("FISICA".equalsIgnoreCase(dto.getTipoPessoa())) {
-            fornecedor = modelMapper.map(dto, FornecedorPessoaFisica.class);
-        } else if ("JURIDICA".equalsIgnoreCase(dto.getTipoPessoa())) {
-            fornecedor = modelMapper.map(dto, FornecedorPessoaJuridica.class);
-        } else {
-            throw new BusinessException("Tipo de pessoa inválido: " + dto.getTipoPessoa());
-        }
-        fornecedor.setId(null);
-        return fornecedor;
+        return fornecedorMapper.toEntity(dto);
     }
 
-    private String getTipoPessoaFromEntity(Fornecedor fornecedor) {
-        if (fornecedor instanceof FornecedorPessoaFisica) return "FISICA";
-        if (fornecedor instanceof FornecedorPessoaJuridica) return "JURIDICA";
-        return "DESCONHECIDO";
+    private Fornecedor convertToImportedEntity(FornecedorDTO dto) {
+        if (dto.getEmpresaIds() != null && !dto.getEmpresaIds().isEmpty()) {
+            throw new BusinessException("A importação não aceita empresaIds; associe as empresas após importar.");
+        }
+        return convertToEntity(dto);
     }
 }
@@ -0,0 +1,42 @@
+package com.desafio.backend.api.controller;
+
+import com.desafio.backend.domain.repository.Versao;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Validadores HTTP (ETag e Last-Modified) derivados de uma {@link Versao}. As respostas usam
+ * {@code Cache-Control: no-cache} para que o navegador sempre revalide com {@code If-None-Match}.
+ */
+final class Versionamento {
+
+    static final CacheControl REVALIDAR = CacheControl.noCache();
+
+    private Versionamento() {
+    }
+
+    static String etag(Versao versao) {
+        long micros = versao.ultimaAlteracao() == null
+                ? 0
+                : ChronoUnit.MICROS.between(Instant.EPOCH, versao.ultimaAlteracao().toInstant());
+        return "\"" + Long.toString(versao.total(), 36) + "-" + Long.toString(micros, 36) + "\"";
+    }
+
+    static long ultimaAlteracao(Versao versao) {
+        return versao.ultimaAlteracao() == null ? -1 : versao.ultimaAlteracao().toInstant().toEpochMilli();
+    }
+
+    /**
+     * Versão que a escrita precisa encontrar no banco quando o pedido traz {@code If-Match}: a mesma que já
+     * passou pela comparação de ETag, conferida de novo dentro da transação.
+     */
+    static OffsetDateTime esperada(WebRequest request, Versao versao) {
+        String ifMatch = request.getHeader(HttpHeaders.IF_MATCH);
+        return ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.strip()) ? null : versao.ultimaAlteracao();
+    }
+}
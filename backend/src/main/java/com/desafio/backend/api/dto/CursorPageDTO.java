@@ -0,0 +1,9 @@
+package com.desafio.backend.api.dto;
+
+import java.util.List;
+
+public record CursorPageDTO<T>(
+        List<T> content,
+        String next,
+        boolean hasNext
+) {}
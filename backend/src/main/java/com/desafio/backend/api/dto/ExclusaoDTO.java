@@ -0,0 +1,5 @@
+package com.desafio.backend.api.dto;
+
+public record ExclusaoDTO(
+        long excluidos
+) {}
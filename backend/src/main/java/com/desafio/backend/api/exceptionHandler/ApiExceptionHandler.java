@@ -2,6 +2,9 @@ package com.desafio.backend.api.exceptionHandler;
 
 import com.desafio.backend.domain.exception.BusinessException;
 import com.desafio.backend.domain.exception.ResourceNotFoundException;
+import com.desafio.backend.domain.exception.RestricaoUnica;
+import com.desafio.backend.domain.exception.VersaoDesatualizadaException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -51,6 +54,16 @@ public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
         return handleExceptionInternal(ex, errorDetail, new HttpHeaders(), HttpStatus.NOT_FOUND, request);
     }
 
+    @ExceptionHandler(VersaoDesatualizadaException.class)
+    public ResponseEntity<Object> handleVersaoDesatualizada(VersaoDesatualizadaException ex, WebRequest request) {
+        ErrorDetail errorDetail = new ErrorDetail(
+                HttpStatus.PRECONDITION_FAILED.value(),
+                ex.getMessage(),
+                OffsetDateTime.now(),
+                null);
+        return handleExceptionInternal(ex, errorDetail, new HttpHeaders(), HttpStatus.PRECONDITION_FAILED, request);
+    }
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<Object> handleBusinessException(BusinessException ex, WebRequest request) {
         HttpStatus status = HttpStatus.BAD_REQUEST;
@@ -63,6 +76,13 @@ public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
         return handleExceptionInternal(ex, errorDetail, new HttpHeaders(), status, request);
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Object> handleDataIntegrityViolation(DataIntegrityViolationException ex, WebRequest request) {
+        return RestricaoUnica.violadaPor(ex)
+                .map(restricao -> handleBusinessException(new BusinessException(restricao.getMensagem()), request))
+                .orElseGet(() -> handleUncaughtException(ex, request));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleUncaughtException(Exception ex, WebRequest request) {
         logger.error("Unhandled exception occurred", ex);
@@ -0,0 +1,56 @@
+package com.desafio.backend.api.mapper;
+
+import com.desafio.backend.api.dto.EmpresaDTO;
+import com.desafio.backend.domain.model.Empresa;
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.repository.EmpresaResumo;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+@Component
+public class EmpresaMapper {
+
+    public EmpresaDTO toDto(Empresa empresa) {
+        if (empresa == null) return null;
+        return new EmpresaDTO(empresa.getId(), empresa.getCnpj(), empresa.getNomeFantasia(), empresa.getCep(),
+                fornecedorIds(empresa.getFornecedores()));
+    }
+
+    public EmpresaDTO toDto(Empresa empresa, Set<Long> fornecedorIds) {
+        if (empresa == null) return null;
+        return new EmpresaDTO(empresa.getId(), empresa.getCnpj(), empresa.getNomeFantasia(), empresa.getCep(),
+                fornecedorIds != null ? fornecedorIds : Collections.emptySet());
+    }
+
+    public EmpresaDTO toDto(EmpresaResumo empresa, Set<Long> fornecedorIds) {
+        return new EmpresaDTO(empresa.id(), empresa.cnpj(), empresa.nomeFantasia(), empresa.cep(),
+                fornecedorIds != null ? fornecedorIds : Collections.emptySet());
+    }
+
+    public Empresa toEntity(EmpresaDTO dto) {
+        if (dto == null) return null;
+        Empresa empresa = new Empresa();
+        updateEntity(dto, empresa);
+        return empresa;
+    }
+
+    public void updateEntity(EmpresaDTO dto, Empresa empresa) {
+        empresa.setCnpj(dto.cnpj());
+        empresa.setNomeFantasia(dto.nomeFantasia());
+        empresa.setCep(dto.cep());
+    }
+
+    private static Set<Long> fornecedorIds(Set<Fornecedor> fornecedores) {
+        if (fornecedores == null || fornecedores.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<Long> ids = new HashSet<>(fornecedores.size() * 4 / 3 + 1);
+        for (Fornecedor fornecedor : fornecedores) {
+            ids.add(fornecedor.getId());
+        }
+        return ids;
+    }
+}
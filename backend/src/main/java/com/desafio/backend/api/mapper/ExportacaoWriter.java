@@ -0,0 +1,84 @@
+package com.desafio.backend.api.mapper;
+
+import com.desafio.backend.domain.exception.BusinessException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Escreve registros um a um na saída, como CSV com cabeçalho (coleções separadas por {@code ;})
+ * ou NDJSON, sem acumular o conteúdo em memória.
+ */
+@Component
+public class ExportacaoWriter {
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+
+    public ExportacaoWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.csvMapper = CsvMapper.builder()
+                .findAndAddModules()
+                .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    public <T> void escrever(OutputStream saida, Formato formato, Class<T> tipo, Consumer<Consumer<T>> produtor) throws IOException {
+        try (SequenceWriter writer = formato == Formato.CSV
+                ? csvMapper.writer(csvMapper.schemaFor(tipo).withHeader()).writeValues(saida)
+                : objectMapper.writer().withRootValueSeparator("\n").writeValues(saida)) {
+            produtor.accept(registro -> {
+                try {
+                    writer.write(registro);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (formato == Formato.NDJSON) {
+                saida.write('\n');
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public enum Formato {
+        CSV(MediaType.parseMediaType(ImportacaoParser.TEXT_CSV), "csv"),
+        NDJSON(MediaType.parseMediaType(ImportacaoParser.APPLICATION_NDJSON), "ndjson");
+
+        private final MediaType mediaType;
+        private final String extensao;
+
+        Formato(MediaType mediaType, String extensao) {
+            this.mediaType = mediaType;
+            this.extensao = extensao;
+        }
+
+        public static Formato of(String valor) {
+            for (Formato formato : values()) {
+                if (formato.extensao.equalsIgnoreCase(valor)) {
+                    return formato;
+                }
+            }
+            throw new BusinessException("Formato de exportação inválido: " + valor + ". Use csv ou ndjson.");
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        public String extensao() {
+            return extensao;
+        }
+    }
+}
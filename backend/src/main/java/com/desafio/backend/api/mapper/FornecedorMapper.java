@@ -0,0 +1,105 @@
+package com.desafio.backend.api.mapper;
+
+import com.desafio.backend.api.dto.FornecedorDTO;
+import com.desafio.backend.domain.exception.BusinessException;
+import com.desafio.backend.domain.model.Empresa;
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.model.FornecedorPessoaFisica;
+import com.desafio.backend.domain.model.FornecedorPessoaJuridica;
+import com.desafio.backend.domain.repository.FornecedorResumo;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+@Component
+public class FornecedorMapper {
+
+    public static final String FISICA = "FISICA";
+    public static final String JURIDICA = "JURIDICA";
+
+    public FornecedorDTO toDto(Fornecedor fornecedor) {
+        if (fornecedor == null) return null;
+        return toDto(fornecedor, empresaIds(fornecedor.getEmpresas()));
+    }
+
+    public FornecedorDTO toDto(Fornecedor fornecedor, Set<Long> empresaIds) {
+        if (fornecedor == null) return null;
+        String rg = null;
+        LocalDate dataNascimento = null;
+        if (fornecedor instanceof FornecedorPessoaFisica pf) {
+            rg = pf.getRg();
+            dataNascimento = pf.getDataNascimento();
+        }
+        return new FornecedorDTO(
+                fornecedor.getId(),
+                tipoPessoa(fornecedor),
+                fornecedor.getIdentificadorFiscal(),
+                fornecedor.getNome(),
+                fornecedor.getEmail(),
+                fornecedor.getCep(),
+                rg,
+                dataNascimento,
+                empresaIds != null ? empresaIds : Collections.emptySet());
+    }
+
+    public FornecedorDTO toDto(FornecedorResumo fornecedor, Set<Long> empresaIds) {
+        return new FornecedorDTO(
+                fornecedor.id(),
+                tipoPessoa(fornecedor.tipo()),
+                fornecedor.identificadorFiscal(),
+                fornecedor.nome(),
+                fornecedor.email(),
+                fornecedor.cep(),
+                fornecedor.rg(),
+                fornecedor.dataNascimento(),
+                empresaIds != null ? empresaIds : Collections.emptySet());
+    }
+
+    public Fornecedor toEntity(FornecedorDTO dto) {
+        Fornecedor fornecedor;
+        if (FISICA.equalsIgnoreCase(dto.getTipoPessoa())) {
+            fornecedor = new FornecedorPessoaFisica();
+        } else if (JURIDICA.equalsIgnoreCase(dto.getTipoPessoa())) {
+            fornecedor = new FornecedorPessoaJuridica();
+        } else {
+            throw new BusinessException("Tipo de pessoa inválido: " + dto.getTipoPessoa());
+        }
+        updateEntity(dto, fornecedor);
+        return fornecedor;
+    }
+
+    public void updateEntity(FornecedorDTO dto, Fornecedor fornecedor) {
+        fornecedor.setIdentificadorFiscal(dto.getIdentificadorFiscal());
+        fornecedor.setNome(dto.getNome());
+        fornecedor.setEmail(dto.getEmail());
+        fornecedor.setCep(dto.getCep());
+        if (fornecedor instanceof FornecedorPessoaFisica pf) {
+            pf.setRg(dto.getRg());
+            pf.setDataNascimento(dto.getDataNascimento());
+        }
+    }
+
+    public String tipoPessoa(Fornecedor fornecedor) {
+        return tipoPessoa(fornecedor.getClass());
+    }
+
+    private static String tipoPessoa(Class<?> tipo) {
+        if (FornecedorPessoaFisica.class.isAssignableFrom(tipo)) return FISICA;
+        if (FornecedorPessoaJuridica.class.isAssignableFrom(tipo)) return JURIDICA;
+        return "DESCONHECIDO";
+    }
+
+    private static Set<Long> empresaIds(Set<Empresa> empresas) {
+        if (empresas == null || empresas.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<Long> ids = new HashSet<>(empresas.size() * 4 / 3 + 1);
+        for (Empresa empresa : empresas) {
+            ids.add(empresa.getId());
+        }
+        return ids;
+    }
+}
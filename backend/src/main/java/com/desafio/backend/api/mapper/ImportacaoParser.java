@@ -0,0 +1,97 @@
+package com.desafio.backend.api.mapper;
+
+import com.desafio.backend.domain.exception.BusinessException;
+import com.desafio.backend.domain.service.ImportacaoService.Linha;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Lê o corpo de uma importação (CSV com cabeçalho ou NDJSON) registro a registro, valida cada DTO
+ * e o converte para entidade. Registros mal formatados ou inválidos viram linhas com erro em vez de
+ * interromper a leitura.
+ */
+@Component
+public class ImportacaoParser {
+
+    public static final String TEXT_CSV = "text/csv";
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+    private final Validator validator;
+
+    public ImportacaoParser(ObjectMapper objectMapper, Validator validator) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.csvMapper = CsvMapper.builder()
+                .findAndAddModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+
+    public <D, E> Iterator<Linha<E>> ler(InputStream corpo, String contentType, Class<D> tipo, Function<D, E> conversor)
+            throws IOException {
+        MappingIterator<D> registros = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(TEXT_CSV))
+                ? csvMapper.readerFor(tipo).with(CsvSchema.emptySchema().withHeader()).readValues(corpo)
+                : objectMapper.readerFor(tipo).readValues(corpo);
+
+        return new Iterator<>() {
+            private long numero;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    return registros.hasNextValue();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public Linha<E> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                numero++;
+                D dto;
+                try {
+                    dto = registros.nextValue();
+                } catch (IOException | RuntimeException e) {
+                    return Linha.invalida(numero, "Registro mal formatado: " + e.getMessage().lines().findFirst().orElse(""));
+                }
+                return converter(numero, dto, conversor);
+            }
+        };
+    }
+
+    private <D, E> Linha<E> converter(long numero, D dto, Function<D, E> conversor) {
+        Set<ConstraintViolation<D>> violacoes = validator.validate(dto);
+        if (!violacoes.isEmpty()) {
+            return Linha.invalida(numero, violacoes.stream()
+                    .map(violacao -> violacao.getPropertyPath() + ": " + violacao.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        try {
+            return Linha.valida(numero, conversor.apply(dto));
+        } catch (BusinessException e) {
+            return Linha.invalida(numero, e.getMessage());
+        }
+    }
+}
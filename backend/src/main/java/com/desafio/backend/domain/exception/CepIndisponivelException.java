@@ -0,0 +1,11 @@
+package com.desafio.backend.domain.exception;
+
+public class CepIndisponivelException extends RuntimeException {
+    public CepIndisponivelException(String message) {
+        super(message);
+    }
+
+    public CepIndisponivelException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,58 @@
+package com.desafio.backend.domain.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.core.NestedExceptionUtils;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Restrições de unicidade nomeadas no schema e a mensagem exibida quando uma escrita as viola.
+ * A unicidade é garantida pelo banco; a aplicação só traduz a violação.
+ */
+public enum RestricaoUnica {
+
+    EMPRESA_CNPJ("uk_empresas_cnpj", "CNPJ já cadastrado."),
+    FORNECEDOR_IDENTIFICADOR_FISCAL("uk_fornecedores_identificador_fiscal", "Identificador Fiscal (CNPJ/CPF) já cadastrado."),
+    FORNECEDOR_EMAIL("uk_fornecedores_email", "E-mail já cadastrado.");
+
+    private final String nome;
+    private final String mensagem;
+
+    RestricaoUnica(String nome, String mensagem) {
+        this.nome = nome;
+        this.mensagem = mensagem;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public static Optional<RestricaoUnica> violadaPor(Throwable erro) {
+        String detalhe = null;
+        for (Throwable causa = erro; causa != null; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException violacao && violacao.getConstraintName() != null) {
+                detalhe = violacao.getConstraintName();
+                break;
+            }
+        }
+        if (detalhe == null) {
+            detalhe = NestedExceptionUtils.getMostSpecificCause(erro).getMessage();
+        }
+        if (detalhe == null) {
+            return Optional.empty();
+        }
+        // o H2 reporta o nome do índice (PUBLIC.UK_..._INDEX_1), o PostgreSQL o da constraint
+        String normalizado = detalhe.toLowerCase(Locale.ROOT);
+        for (RestricaoUnica restricao : values()) {
+            if (normalizado.contains(restricao.nome)) {
+                return Optional.of(restricao);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -14,7 +14,7 @@ import java.util.Objects;
 public abstract class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @CreationTimestamp
@@ -25,6 +25,14 @@ public abstract class BaseEntity {
     @Column(nullable = false)
     private OffsetDateTime updatedAt;
 
+    /**
+     * Força a atualização de {@code updatedAt} no próximo flush, para mudanças que não alteram colunas
+     * da própria entidade (como as associações).
+     */
+    public void marcarAlteracao() {
+        this.updatedAt = OffsetDateTime.now();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
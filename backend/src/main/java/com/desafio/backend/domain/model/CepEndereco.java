@@ -0,0 +1,36 @@
+package com.desafio.backend.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "cep_enderecos", indexes = @Index(name = "idx_cep_enderecos_consultado_em", columnList = "consultado_em"))
+@Getter
+@Setter
+public class CepEndereco {
+
+    @Id
+    @Column(length = 8)
+    private String cep;
+
+    private String logradouro;
+
+    private String complemento;
+
+    private String bairro;
+
+    private String localidade;
+
+    @Column(length = 2)
+    private String uf;
+
+    @Column(nullable = false, name = "consultado_em")
+    private OffsetDateTime consultadoEm;
+}
@@ -6,18 +6,25 @@ import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "empresas")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "empresas")
+@Table(name = "empresas",
+        uniqueConstraints = @UniqueConstraint(name = "uk_empresas_cnpj", columnNames = "cnpj"),
+        indexes = @Index(name = "idx_empresas_uf_cidade", columnList = "uf, cidade"))
 @Getter
 @Setter
-public class Empresa extends BaseEntity {
+public class Empresa extends BaseEntity implements Localizavel {
 
     @NotBlank(message = "CNPJ é obrigatório")
     @Pattern(regexp = "\\d{14}", message = "CNPJ deve conter 14 dígitos")
-    @Column(nullable = false, unique = true, length = 14)
+    @Column(nullable = false, length = 14)
     private String cnpj;
 
     @NotBlank(message = "Nome Fantasia é obrigatório")
@@ -30,7 +37,15 @@ public class Empresa extends BaseEntity {
     @Column(nullable = false, length = 8)
     private String cep;
 
+    @Size(max = 2)
+    @Column(length = 2)
+    private String uf;
+
+    @Size(max = 255)
+    private String cidade;
+
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "empresas-fornecedores")
     @JoinTable(
         name = "empresa_fornecedor",
         joinColumns = @JoinColumn(name = "empresa_id"),
@@ -7,22 +7,35 @@ import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "fornecedores")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "fornecedores")
+@Table(name = "fornecedores",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_fornecedores_identificador_fiscal", columnNames = "identificador_fiscal"),
+                @UniqueConstraint(name = "uk_fornecedores_email", columnNames = "email")
+        },
+        indexes = {
+                @Index(name = "idx_fornecedores_nome_id", columnList = "nome, id"),
+                @Index(name = "idx_fornecedores_uf_cidade", columnList = "uf, cidade")
+        })
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "tipo_pessoa", discriminatorType = DiscriminatorType.STRING)
 @Getter
 @Setter
-public abstract class Fornecedor extends BaseEntity {
+public abstract class Fornecedor extends BaseEntity implements Localizavel {
 
     @NotBlank(message = "CNPJ/CPF é obrigatório")
     @Size(min = 11, max = 14, message = "CNPJ/CPF deve ter entre 11 e 14 dígitos")
-    @Column(nullable = false, unique = true, length = 14, name = "identificador_fiscal")
+    @Column(nullable = false, length = 14, name = "identificador_fiscal")
     private String identificadorFiscal;
 
     @NotBlank(message = "Nome é obrigatório")
@@ -33,7 +46,7 @@ public abstract class Fornecedor extends BaseEntity {
     @NotBlank(message = "E-mail é obrigatório")
     @Email(message = "E-mail inválido")
     @Size(max = 255)
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @NotBlank(message = "CEP é obrigatório")
@@ -41,6 +54,15 @@ public abstract class Fornecedor extends BaseEntity {
     @Column(nullable = false, length = 8)
     private String cep;
 
+    @Size(max = 2)
+    @Column(length = 2)
+    private String uf;
+
+    @Size(max = 255)
+    private String cidade;
+
     @ManyToMany(mappedBy = "fornecedores", fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "fornecedores-empresas")
     private Set<Empresa> empresas = new HashSet<>();
 }
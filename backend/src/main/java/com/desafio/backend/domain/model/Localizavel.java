@@ -0,0 +1,17 @@
+package com.desafio.backend.domain.model;
+
+/**
+ * Registro com endereço por CEP. A UF e a cidade são gravadas junto com o CEP para que as regras
+ * que dependem do estado não precisem consultar o ViaCEP de novo; ficam nulas apenas nos registros
+ * anteriores ao preenchimento.
+ */
+public interface Localizavel {
+
+    String getCep();
+
+    String getUf();
+
+    void setUf(String uf);
+
+    void setCidade(String cidade);
+}
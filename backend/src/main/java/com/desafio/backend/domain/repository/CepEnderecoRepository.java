@@ -0,0 +1,14 @@
+package com.desafio.backend.domain.repository;
+
+import com.desafio.backend.domain.model.CepEndereco;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface CepEnderecoRepository extends JpaRepository<CepEndereco, String> {
+    List<CepEndereco> findByConsultadoEmAfterOrderByConsultadoEmDesc(OffsetDateTime limite, Pageable pageable);
+}
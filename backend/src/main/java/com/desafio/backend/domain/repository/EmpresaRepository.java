@@ -1,11 +1,89 @@
 package com.desafio.backend.domain.repository;
 
 import com.desafio.backend.domain.model.Empresa;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface EmpresaRepository extends JpaRepository<Empresa, Long> {
+public interface EmpresaRepository extends JpaRepository<Empresa, Long>, JpaSpecificationExecutor<Empresa> {
     Optional<Empresa> findByCnpj(String cnpj);
-}
\ No newline at end of file
+
+    @Override
+    @EntityGraph(attributePaths = "fornecedores")
+    Optional<Empresa> findById(Long id);
+
+    @Query("select e.cnpj from Empresa e where e.cnpj in :valores")
+    Set<String> findExistingCnpjs(@Param("valores") Collection<String> valores);
+
+    @Query("select e.id from Empresa e where e.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.desafio.backend.domain.repository.Localidade(e.id, e.cep, e.uf) from Empresa e where e.id in :ids")
+    List<Localidade> findLocalidadesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select new com.desafio.backend.domain.repository.Localidade(e.id, e.cep, e.uf) from Empresa e
+            where e.id in :ids and (e.uf = 'PR' or e.uf is null)
+            """)
+    List<Localidade> findLocalidadesNoParanaOuPendentes(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.desafio.backend.domain.repository.Localidade(e.id, e.cep, e.uf) from Empresa e where e.uf is null and e.id > :afterId order by e.id")
+    List<Localidade> findLocalidadesPendentesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("update Empresa e set e.uf = :uf, e.cidade = :cidade where e.id in :ids and e.uf is null")
+    int preencherLocalidade(@Param("ids") Collection<Long> ids, @Param("uf") String uf, @Param("cidade") String cidade);
+
+    @Query(value = "select empresa_id, fornecedor_id from empresa_fornecedor where empresa_id in (:ids)", nativeQuery = true)
+    List<Object[]> findFornecedorIdsByEmpresaIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "empresa_fornecedor"))
+    @Query(value = """
+            insert into empresa_fornecedor (empresa_id, fornecedor_id)
+            select :empresaId, f.id from fornecedores f
+            where f.id in (:fornecedorIds)
+              and not exists (select 1 from empresa_fornecedor ef where ef.empresa_id = :empresaId and ef.fornecedor_id = f.id)
+            """, nativeQuery = true)
+    int insertFornecedores(@Param("empresaId") Long empresaId, @Param("fornecedorIds") Collection<Long> fornecedorIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "empresa_fornecedor"))
+    @Query(value = "delete from empresa_fornecedor where empresa_id = :empresaId and fornecedor_id in (:fornecedorIds)", nativeQuery = true)
+    int deleteFornecedores(@Param("empresaId") Long empresaId, @Param("fornecedorIds") Collection<Long> fornecedorIds);
+
+    @Modifying
+    @Query("update Empresa e set e.updatedAt = :agora where e.id in :ids")
+    int marcarAlteracao(@Param("ids") Collection<Long> ids, @Param("agora") OffsetDateTime agora);
+
+    @Modifying
+    @Query("update Empresa e set e.updatedAt = :agora where e.id = :id and e.updatedAt = :versao")
+    int marcarAlteracaoSeNaVersao(@Param("id") Long id, @Param("versao") OffsetDateTime versao,
+                                  @Param("agora") OffsetDateTime agora);
+
+    @Modifying
+    @Query("""
+            update Empresa e set e.updatedAt = :agora
+            where e.id in (select empresa.id from Fornecedor f join f.empresas empresa where f.id in :fornecedorIds)
+            """)
+    int marcarAlteracaoPorFornecedores(@Param("fornecedorIds") Collection<Long> fornecedorIds, @Param("agora") OffsetDateTime agora);
+
+    @Modifying
+    @Query("delete from Empresa e where e.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,20 @@
+package com.desafio.backend.domain.repository;
+
+import com.desafio.backend.domain.model.Empresa;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Colunas de uma empresa usadas nas listagens.
+ */
+public record EmpresaResumo(Long id, String cnpj, String nomeFantasia, String cep) {
+
+    public static Selection<EmpresaResumo> colunas(Root<Empresa> root, CriteriaBuilder criteriaBuilder) {
+        return criteriaBuilder.construct(EmpresaResumo.class,
+                root.get("id"),
+                root.get("cnpj"),
+                root.get("nomeFantasia"),
+                root.get("cep"));
+    }
+}
@@ -0,0 +1,31 @@
+package com.desafio.backend.domain.repository;
+
+import com.desafio.backend.domain.model.Empresa;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+public class EmpresaSpecification {
+
+    public static Specification<Empresa> filterBy(String nomeFantasia, String cnpj, String cep) {
+        return (root, query, criteriaBuilder) -> {
+            var predicates = criteriaBuilder.conjunction();
+
+            if (StringUtils.hasText(nomeFantasia)) {
+                predicates = criteriaBuilder.and(predicates,
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("nomeFantasia")), nomeFantasia.toLowerCase() + "%"));
+            }
+
+            if (StringUtils.hasText(cnpj)) {
+                predicates = criteriaBuilder.and(predicates,
+                        criteriaBuilder.like(root.get("cnpj"), cnpj + "%"));
+            }
+
+            if (StringUtils.hasText(cep)) {
+                predicates = criteriaBuilder.and(predicates,
+                        criteriaBuilder.equal(root.get("cep"), cep));
+            }
+
+            return predicates;
+        };
+    }
+}
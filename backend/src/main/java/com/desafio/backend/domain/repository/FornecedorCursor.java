@@ -0,0 +1,67 @@
+package com.desafio.backend.domain.repository;
+
+import com.desafio.backend.domain.exception.BusinessException;
+import com.desafio.backend.domain.model.Fornecedor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Posição de paginação por keyset na listagem de fornecedores, ordenada por {@code nome, id}.
+ * Trafega como um token opaco (Base64 URL-safe de {@code id:nome}).
+ */
+public record FornecedorCursor(String nome, Long id) {
+
+    public static final Sort ORDENACAO = Sort.by("nome", "id");
+
+    public static FornecedorCursor of(FornecedorResumo fornecedor) {
+        return new FornecedorCursor(fornecedor.nome(), fornecedor.id());
+    }
+
+    public static FornecedorCursor decode(String token) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(':');
+            if (separador <= 0) {
+                throw new IllegalArgumentException("separador ausente");
+            }
+            return new FornecedorCursor(valor.substring(separador + 1), Long.parseLong(valor.substring(0, separador)));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Cursor de paginação inválido: " + token);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((id + ":" + nome).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public KeysetScrollPosition toScrollPosition() {
+        Map<String, Object> chaves = new LinkedHashMap<>();
+        chaves.put("nome", nome);
+        chaves.put("id", id);
+        return ScrollPosition.forward(chaves);
+    }
+
+    /**
+     * Fornecedores depois desta posição em {@link #ORDENACAO}:
+     * {@code nome >= :nome and (nome > :nome or (nome = :nome and id > :id))}. O {@code nome >= :nome}
+     * redundante é o que o planner usa como início do range em {@code idx_fornecedores_nome_id}; só com o
+     * {@code or} o índice seria lido desde o começo e a página 5.000 custaria o mesmo que percorrer as anteriores.
+     */
+    public Specification<Fornecedor> depois() {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(
+                criteriaBuilder.greaterThanOrEqualTo(root.get("nome"), nome),
+                criteriaBuilder.or(
+                        criteriaBuilder.greaterThan(root.get("nome"), nome),
+                        criteriaBuilder.and(
+                                criteriaBuilder.equal(root.get("nome"), nome),
+                                criteriaBuilder.greaterThan(root.get("id"), id))));
+    }
+}
@@ -1,13 +1,90 @@
 package com.desafio.backend.domain.repository;
 
 import com.desafio.backend.domain.model.Fornecedor;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface FornecedorRepository extends JpaRepository<Fornecedor, Long>, JpaSpecificationExecutor<Fornecedor> {
     Optional<Fornecedor> findByIdentificadorFiscal(String identificadorFiscal);
-    Optional<Fornecedor> findByEmail(String email);
-}
\ No newline at end of file
+
+    @Override
+    @EntityGraph(attributePaths = "empresas")
+    Optional<Fornecedor> findById(Long id);
+
+    @Query("select f.id from Fornecedor f where f.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select count(f) > 0 from FornecedorPessoaFisica f where f.id in :ids and (f.dataNascimento is null or f.dataNascimento > :limite)")
+    boolean existsMenorDeIdade(@Param("ids") Collection<Long> ids, @Param("limite") LocalDate limite);
+
+    @Query("select f.identificadorFiscal from Fornecedor f where f.identificadorFiscal in :valores")
+    Set<String> findExistingIdentificadoresFiscais(@Param("valores") Collection<String> valores);
+
+    @Query("select f.email from Fornecedor f where f.email in :valores")
+    Set<String> findExistingEmails(@Param("valores") Collection<String> valores);
+
+    @Query(value = "select fornecedor_id, empresa_id from empresa_fornecedor where fornecedor_id in (:ids)", nativeQuery = true)
+    List<Object[]> findEmpresaIdsByFornecedorIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select f.id, f.nome, f.identificadorFiscal from Fornecedor f where f.id > :afterId order by f.id")
+    List<Object[]> findIndexRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select new com.desafio.backend.domain.repository.Localidade(f.id, f.cep, f.uf) from Fornecedor f where f.uf is null and f.id > :afterId order by f.id")
+    List<Localidade> findLocalidadesPendentesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("update Fornecedor f set f.uf = :uf, f.cidade = :cidade where f.id in :ids and f.uf is null")
+    int preencherLocalidade(@Param("ids") Collection<Long> ids, @Param("uf") String uf, @Param("cidade") String cidade);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "empresa_fornecedor"))
+    @Query(value = """
+            insert into empresa_fornecedor (empresa_id, fornecedor_id)
+            select e.id, :fornecedorId from empresas e
+            where e.id in (:empresaIds)
+              and not exists (select 1 from empresa_fornecedor ef where ef.empresa_id = e.id and ef.fornecedor_id = :fornecedorId)
+            """, nativeQuery = true)
+    int insertEmpresas(@Param("fornecedorId") Long fornecedorId, @Param("empresaIds") Collection<Long> empresaIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "empresa_fornecedor"))
+    @Query(value = "delete from empresa_fornecedor where fornecedor_id = :fornecedorId and empresa_id in (:empresaIds)", nativeQuery = true)
+    int deleteEmpresas(@Param("fornecedorId") Long fornecedorId, @Param("empresaIds") Collection<Long> empresaIds);
+
+    @Modifying
+    @Query("update Fornecedor f set f.updatedAt = :agora where f.id in :ids")
+    int marcarAlteracao(@Param("ids") Collection<Long> ids, @Param("agora") OffsetDateTime agora);
+
+    @Modifying
+    @Query("update Fornecedor f set f.updatedAt = :agora where f.id = :id and f.updatedAt = :versao")
+    int marcarAlteracaoSeNaVersao(@Param("id") Long id, @Param("versao") OffsetDateTime versao,
+                                  @Param("agora") OffsetDateTime agora);
+
+    @Modifying
+    @Query("""
+            update Fornecedor f set f.updatedAt = :agora
+            where f.id in (select fornecedor.id from Empresa e join e.fornecedores fornecedor where e.id in :empresaIds)
+            """)
+    int marcarAlteracaoPorEmpresas(@Param("empresaIds") Collection<Long> empresaIds, @Param("agora") OffsetDateTime agora);
+
+    @Modifying
+    @Query("delete from Fornecedor f where f.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
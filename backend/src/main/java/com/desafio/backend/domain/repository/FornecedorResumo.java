@@ -0,0 +1,30 @@
+package com.desafio.backend.domain.repository;
+
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.model.FornecedorPessoaFisica;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.time.LocalDate;
+
+/**
+ * Colunas de um fornecedor usadas nas listagens. O tipo vem do discriminador e {@code rg} e
+ * {@code dataNascimento} ficam nulos para pessoa jurídica.
+ */
+public record FornecedorResumo(Long id, Class<?> tipo, String identificadorFiscal, String nome, String email,
+                               String cep, String rg, LocalDate dataNascimento) {
+
+    public static Selection<FornecedorResumo> colunas(Root<Fornecedor> root, CriteriaBuilder criteriaBuilder) {
+        Root<FornecedorPessoaFisica> pessoaFisica = criteriaBuilder.treat(root, FornecedorPessoaFisica.class);
+        return criteriaBuilder.construct(FornecedorResumo.class,
+                root.get("id"),
+                root.type(),
+                root.get("identificadorFiscal"),
+                root.get("nome"),
+                root.get("email"),
+                root.get("cep"),
+                pessoaFisica.get("rg"),
+                pessoaFisica.get("dataNascimento"));
+    }
+}
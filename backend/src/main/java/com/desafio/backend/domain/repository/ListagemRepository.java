@@ -0,0 +1,66 @@
+package com.desafio.backend.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Listagens que selecionam só as colunas de uma projeção por construtor, com os mesmos filtros
+ * ({@link Specification}) e a mesma paginação das consultas por entidade. Nada fica no contexto de
+ * persistência nem no cache de segundo nível.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ListagemRepository {
+
+    private final EntityManager entityManager;
+
+    public <E, R> Page<R> listar(Class<E> tipo, Class<R> projecao, BiFunction<Root<E>, CriteriaBuilder, Selection<R>> colunas,
+                                 Specification<E> spec, Pageable pageable) {
+        TypedQuery<R> query = consulta(tipo, projecao, colunas, spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> contar(tipo, spec));
+    }
+
+    public <E, R> List<R> listar(Class<E> tipo, Class<R> projecao, BiFunction<Root<E>, CriteriaBuilder, Selection<R>> colunas,
+                                 Specification<E> spec, Sort sort, int limite) {
+        return consulta(tipo, projecao, colunas, spec, sort).setMaxResults(limite).getResultList();
+    }
+
+    private <E, R> TypedQuery<R> consulta(Class<E> tipo, Class<R> projecao, BiFunction<Root<E>, CriteriaBuilder, Selection<R>> colunas,
+                                          Specification<E> spec, Sort sort) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = criteriaBuilder.createQuery(projecao);
+        Root<E> root = query.from(tipo);
+        query.select(colunas.apply(root, criteriaBuilder));
+        query.where(spec.toPredicate(root, query, criteriaBuilder));
+        query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        return entityManager.createQuery(query);
+    }
+
+    private <E> long contar(Class<E> tipo, Specification<E> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<E> root = query.from(tipo);
+        query.select(criteriaBuilder.count(root));
+        query.where(spec.toPredicate(root, query, criteriaBuilder));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
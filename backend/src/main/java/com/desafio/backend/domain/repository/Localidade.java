@@ -0,0 +1,17 @@
+package com.desafio.backend.domain.repository;
+
+/**
+ * CEP e UF gravados de um registro. {@code uf} nula indica registro ainda não preenchido.
+ */
+public record Localidade(Long id, String cep, String uf) {
+
+    public static final String PARANA = "PR";
+
+    public boolean pendente() {
+        return uf == null;
+    }
+
+    public boolean noParana() {
+        return PARANA.equals(uf);
+    }
+}
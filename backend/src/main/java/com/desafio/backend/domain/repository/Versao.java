@@ -0,0 +1,16 @@
+package com.desafio.backend.domain.repository;
+
+import com.desafio.backend.domain.model.BaseEntity;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Resumo barato do estado de um conjunto de registros: quantidade e último {@code updatedAt}.
+ * Muda sempre que um registro do conjunto é criado, alterado ou removido.
+ */
+public record Versao(long total, OffsetDateTime ultimaAlteracao) {
+
+    public static Versao de(BaseEntity entidade) {
+        return new Versao(1, entidade.getUpdatedAt());
+    }
+}
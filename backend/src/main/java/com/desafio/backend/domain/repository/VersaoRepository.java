@@ -0,0 +1,34 @@
+package com.desafio.backend.domain.repository;
+
+import com.desafio.backend.domain.model.BaseEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class VersaoRepository {
+
+    private final EntityManager entityManager;
+
+    public <E extends BaseEntity> Versao buscar(Class<E> tipo, Specification<E> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Versao> query = criteriaBuilder.createQuery(Versao.class);
+        Root<E> root = query.from(tipo);
+        query.select(criteriaBuilder.construct(Versao.class,
+                criteriaBuilder.count(root),
+                criteriaBuilder.greatest(root.<OffsetDateTime>get("updatedAt"))));
+        query.where(spec.toPredicate(root, query, criteriaBuilder));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    public <E extends BaseEntity> Versao buscar(Class<E> tipo, Long id) {
+        return buscar(tipo, (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("id"), id));
+    }
+}
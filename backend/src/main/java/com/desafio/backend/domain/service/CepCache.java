@@ -0,0 +1,177 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.api.dto.CepResponseDTO;
+import com.desafio.backend.domain.model.CepEndereco;
+import com.desafio.backend.domain.repository.CepEnderecoRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache em dois níveis para consultas de CEP: memória (Caffeine, W-TinyLFU) na frente
+ * da tabela {@code cep_enderecos}, que sobrevive a reinícios e aquece a memória na subida.
+ * CEPs inexistentes ficam apenas em memória, com TTL curto.
+ */
+@Component
+public class CepCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CepCache.class);
+
+    private final CepEnderecoRepository cepEnderecoRepository;
+    private final TransactionTemplate gravacao;
+    private final Cache<String, CepResponseDTO> enderecos;
+    private final Cache<String, Boolean> inexistentes;
+    private final Duration persistentTtl;
+    private final int maxSize;
+    private final AtomicLong persistentHits = new AtomicLong();
+    private final AtomicLong persistentMisses = new AtomicLong();
+
+    public CepCache(CepEnderecoRepository cepEnderecoRepository,
+                    PlatformTransactionManager transactionManager,
+                    @Value("${cep.cache.max-size:50000}") int maxSize,
+                    @Value("${cep.cache.ttl:P1D}") Duration ttl,
+                    @Value("${cep.cache.negative-max-size:10000}") int negativeMaxSize,
+                    @Value("${cep.cache.negative-ttl:PT5M}") Duration negativeTtl,
+                    @Value("${cep.cache.persistent-ttl:P30D}") Duration persistentTtl) {
+        this.cepEnderecoRepository = cepEnderecoRepository;
+        this.gravacao = new TransactionTemplate(transactionManager);
+        this.gravacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxSize = maxSize;
+        this.persistentTtl = persistentTtl;
+        this.enderecos = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.inexistentes = Caffeine.newBuilder()
+                .maximumSize(negativeMaxSize)
+                .expireAfterWrite(negativeTtl)
+                .recordStats()
+                .build();
+    }
+
+    public boolean isInexistente(String cep) {
+        return inexistentes.getIfPresent(cep) != null;
+    }
+
+    public Optional<CepResponseDTO> buscar(String cep) {
+        CepResponseDTO emMemoria = enderecos.getIfPresent(cep);
+        if (emMemoria != null) {
+            return Optional.of(emMemoria);
+        }
+
+        Optional<CepResponseDTO> persistido = buscarPersistido(cep);
+        persistido.ifPresent(endereco -> enderecos.put(cep, endereco));
+        return persistido;
+    }
+
+    /**
+     * Grava na memória e, em transação própria, na tabela. O insert só chega ao banco no commit, então a
+     * transação inteira fica dentro do try: uma chave duplicada (outra instância gravando o mesmo CEP) não
+     * pode fazer a consulta do CEP falhar.
+     */
+    public void registrar(String cep, CepResponseDTO endereco) {
+        enderecos.put(cep, endereco);
+        inexistentes.invalidate(cep);
+        try {
+            gravacao.executeWithoutResult(status -> cepEnderecoRepository.save(toEntity(cep, endereco)));
+        } catch (Exception e) {
+            log.warn("Não foi possível persistir o CEP {} no cache: {}", cep, e.getMessage());
+        }
+    }
+
+    public void registrarInexistente(String cep) {
+        inexistentes.put(cep, Boolean.TRUE);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void aquecer() {
+        try {
+            List<CepEndereco> recentes = cepEnderecoRepository.findByConsultadoEmAfterOrderByConsultadoEmDesc(
+                    OffsetDateTime.now().minus(persistentTtl), PageRequest.of(0, maxSize));
+            recentes.forEach(entity -> enderecos.put(entity.getCep(), toDto(entity)));
+            log.info("Cache de CEP aquecido com {} endereços persistidos.", recentes.size());
+        } catch (Exception e) {
+            log.warn("Não foi possível aquecer o cache de CEP: {}", e.getMessage());
+        }
+    }
+
+    public Estatisticas estatisticas() {
+        CacheStats memoria = enderecos.stats();
+        CacheStats negativos = inexistentes.stats();
+        return new Estatisticas(
+                memoria.hitCount(),
+                memoria.missCount(),
+                memoria.evictionCount(),
+                enderecos.estimatedSize(),
+                negativos.hitCount(),
+                negativos.evictionCount(),
+                inexistentes.estimatedSize(),
+                persistentHits.get(),
+                persistentMisses.get());
+    }
+
+    private Optional<CepResponseDTO> buscarPersistido(String cep) {
+        try {
+            Optional<CepResponseDTO> persistido = cepEnderecoRepository.findById(cep)
+                    .filter(entity -> entity.getConsultadoEm().isAfter(OffsetDateTime.now().minus(persistentTtl)))
+                    .map(CepCache::toDto);
+            (persistido.isPresent() ? persistentHits : persistentMisses).incrementAndGet();
+            return persistido;
+        } catch (Exception e) {
+            log.warn("Falha ao consultar o cache persistente de CEP para {}: {}", cep, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static CepEndereco toEntity(String cep, CepResponseDTO dto) {
+        CepEndereco entity = new CepEndereco();
+        entity.setCep(cep);
+        entity.setLogradouro(dto.logradouro());
+        entity.setComplemento(dto.complemento());
+        entity.setBairro(dto.bairro());
+        entity.setLocalidade(dto.localidade());
+        entity.setUf(dto.uf());
+        entity.setConsultadoEm(OffsetDateTime.now());
+        return entity;
+    }
+
+    private static CepResponseDTO toDto(CepEndereco entity) {
+        String cep = entity.getCep();
+        return new CepResponseDTO(
+                cep.substring(0, 5) + "-" + cep.substring(5),
+                entity.getLogradouro(),
+                entity.getComplemento(),
+                entity.getBairro(),
+                entity.getLocalidade(),
+                entity.getUf(),
+                null);
+    }
+
+    public record Estatisticas(
+            long hits,
+            long misses,
+            long evictions,
+            long size,
+            long negativeHits,
+            long negativeEvictions,
+            long negativeSize,
+            long persistentHits,
+            long persistentMisses) {}
+}
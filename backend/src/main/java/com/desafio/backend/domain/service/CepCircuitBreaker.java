@@ -0,0 +1,77 @@
+package com.desafio.backend.domain.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker por falhas consecutivas: abre após {@code failureThreshold} falhas, rejeita
+ * chamadas durante {@code openDuration} e então deixa passar uma única chamada de teste
+ * (meio-aberto) que decide se o circuito fecha ou reabre.
+ */
+class CepCircuitBreaker {
+
+    enum Estado { FECHADO, ABERTO, MEIO_ABERTO }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier relogio;
+    private final AtomicReference<Estado> estado = new AtomicReference<>(Estado.FECHADO);
+    private final AtomicInteger falhasConsecutivas = new AtomicInteger();
+    private final AtomicLong abertoEm = new AtomicLong();
+    private final AtomicBoolean tentativaEmCurso = new AtomicBoolean();
+
+    CepCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CepCircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier relogio) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.relogio = relogio;
+    }
+
+    boolean permiteChamada() {
+        Estado atual = estado.get();
+        if (atual == Estado.FECHADO) {
+            return true;
+        }
+        if (atual == Estado.ABERTO) {
+            if (relogio.getAsLong() - abertoEm.get() < openDurationNanos) {
+                return false;
+            }
+            estado.compareAndSet(Estado.ABERTO, Estado.MEIO_ABERTO);
+        }
+        return tentativaEmCurso.compareAndSet(false, true);
+    }
+
+    void registrarSucesso() {
+        falhasConsecutivas.set(0);
+        estado.set(Estado.FECHADO);
+        tentativaEmCurso.set(false);
+    }
+
+    void registrarFalha() {
+        int falhas = falhasConsecutivas.incrementAndGet();
+        if (estado.get() == Estado.MEIO_ABERTO || falhas >= failureThreshold) {
+            abertoEm.set(relogio.getAsLong());
+            estado.set(Estado.ABERTO);
+        }
+        tentativaEmCurso.set(false);
+    }
+
+    void liberarTentativa() {
+        tentativaEmCurso.set(false);
+    }
+
+    Estado estado() {
+        return estado.get();
+    }
+
+    int falhasConsecutivas() {
+        return falhasConsecutivas.get();
+    }
+}
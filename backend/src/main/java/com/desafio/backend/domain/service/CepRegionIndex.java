@@ -0,0 +1,105 @@
+package com.desafio.backend.domain.service;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Resolve a UF de um CEP localmente, a partir das faixas numéricas contíguas que os Correios
+ * atribuem a cada estado ({@code cep/faixas-uf.csv}). A consulta é uma busca binária sobre
+ * arrays primitivos e não aloca objetos.
+ */
+@Component
+public class CepRegionIndex {
+
+    private static final String FAIXAS_RESOURCE = "cep/faixas-uf.csv";
+
+    private final int[] inicios;
+    private final int[] fins;
+    private final String[] ufs;
+
+    public CepRegionIndex() {
+        this(carregarFaixas(FAIXAS_RESOURCE));
+    }
+
+    CepRegionIndex(List<Faixa> faixas) {
+        List<Faixa> ordenadas = new ArrayList<>(faixas);
+        ordenadas.sort(Comparator.comparingInt(Faixa::inicio));
+        this.inicios = new int[ordenadas.size()];
+        this.fins = new int[ordenadas.size()];
+        this.ufs = new String[ordenadas.size()];
+        for (int i = 0; i < ordenadas.size(); i++) {
+            Faixa faixa = ordenadas.get(i);
+            if (i > 0 && faixa.inicio() <= fins[i - 1]) {
+                throw new IllegalStateException("Faixas de CEP sobrepostas em " + faixa);
+            }
+            inicios[i] = faixa.inicio();
+            fins[i] = faixa.fim();
+            ufs[i] = faixa.uf().intern();
+        }
+    }
+
+    /**
+     * @return a UF do CEP, ou {@code null} se o CEP não tiver 8 dígitos ou estiver fora das faixas conhecidas.
+     */
+    public String ufOf(CharSequence cep) {
+        int numero = parse(cep);
+        if (numero < 0) {
+            return null;
+        }
+        int posicao = Arrays.binarySearch(inicios, numero);
+        int indice = posicao >= 0 ? posicao : -posicao - 2;
+        if (indice < 0 || numero > fins[indice]) {
+            return null;
+        }
+        return ufs[indice];
+    }
+
+    static int parse(CharSequence cep) {
+        if (cep == null) {
+            return -1;
+        }
+        int numero = 0;
+        int digitos = 0;
+        for (int i = 0; i < cep.length(); i++) {
+            char c = cep.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digitos > 8) {
+                    return -1;
+                }
+                numero = numero * 10 + (c - '0');
+            }
+        }
+        return digitos == 8 ? numero : -1;
+    }
+
+    private static List<Faixa> carregarFaixas(String resource) {
+        List<Faixa> faixas = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ClassPathResource(resource).getInputStream(), StandardCharsets.UTF_8))) {
+            String linha;
+            while ((linha = reader.readLine()) != null) {
+                linha = linha.trim();
+                if (linha.isEmpty() || linha.startsWith("#")) {
+                    continue;
+                }
+                String[] campos = linha.split(",");
+                faixas.add(new Faixa(Integer.parseInt(campos[0].trim()), Integer.parseInt(campos[1].trim()), campos[2].trim()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível carregar as faixas de CEP de " + resource, e);
+        }
+        return faixas;
+    }
+
+    record Faixa(int inicio, int fim, String uf) {}
+}
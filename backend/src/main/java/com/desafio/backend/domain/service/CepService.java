@@ -1,76 +1,301 @@
 package com.desafio.backend.domain.service;
 
 import com.desafio.backend.api.dto.CepResponseDTO;
+import com.desafio.backend.domain.exception.CepIndisponivelException;
+import com.desafio.backend.domain.model.Localizavel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
 
 @Service
 public class CepService {
 
     private static final Logger log = LoggerFactory.getLogger(CepService.class);
-    private final RestTemplate restTemplate;
+    private final ViaCepClient viaCepClient;
+    private final CepCache cepCache;
+    private final CepRegionIndex cepRegionIndex;
+    private final Executor cepLookupExecutor;
+    private final Executor cepClientExecutor;
+    private final Duration consultaTimeout;
+    private final Duration batchTimeout;
+    private final MeterRegistry meterRegistry;
+    private final Map<Resultado, Timer> timers = new EnumMap<>(Resultado.class);
+    private final Map<String, CompletableFuture<Optional<CepResponseDTO>>> emVoo = new ConcurrentHashMap<>();
+
+    public CepService(ViaCepClient viaCepClient, CepCache cepCache, CepRegionIndex cepRegionIndex,
+                      @Qualifier("cepLookupExecutor") Executor cepLookupExecutor,
+                      @Qualifier("cepClientExecutor") Executor cepClientExecutor,
+                      @Value("${cep.lookup.timeout:PT5S}") Duration consultaTimeout,
+                      @Value("${cep.lookup.batch-timeout:PT5S}") Duration batchTimeout,
+                      MeterRegistry meterRegistry) {
+        this.viaCepClient = viaCepClient;
+        this.cepCache = cepCache;
+        this.cepRegionIndex = cepRegionIndex;
+        this.cepLookupExecutor = cepLookupExecutor;
+        this.cepClientExecutor = cepClientExecutor;
+        this.consultaTimeout = consultaTimeout;
+        this.batchTimeout = batchTimeout;
+        this.meterRegistry = meterRegistry;
+        for (Resultado resultado : Resultado.values()) {
+            timers.put(resultado, Timer.builder("cep.consulta")
+                    .description("Consultas de CEP, do cache ou do ViaCEP, por resultado")
+                    .tag("resultado", resultado.tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
 
-    @Value("${cep.api.url:https://viacep.com.br/ws}")
-    private String cepApiBaseUrl;
+    public static String limparCep(String cep) {
+        return cep != null ? cep.replaceAll("\\D", "") : "";
+    }
+
+    /**
+     * Grava no registro a UF e a cidade do endereço resolvido.
+     */
+    public static void localizar(Localizavel registro, CepResponseDTO endereco) {
+        registro.setUf(uf(endereco));
+        registro.setCidade(endereco.localidade());
+    }
 
-    public CepService(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    static String uf(CepResponseDTO endereco) {
+        return endereco.uf() != null ? endereco.uf().toUpperCase(Locale.ROOT) : null;
     }
 
     public Optional<CepResponseDTO> consultarCep(String cep) {
-        String cleanedCep = cep != null ? cep.replaceAll("\\D", "") : "";
+        Timer.Sample amostra = Timer.start(meterRegistry);
+        Resultado resultado = Resultado.ERRO;
+        try {
+            String cleanedCep = limparCep(cep);
 
-        if (cleanedCep.length() != 8) {
-            log.warn("Formato inválido de CEP fornecido (após limpeza): '{}'", cleanedCep);
-            return Optional.empty();
-        }
+            if (cleanedCep.length() != 8) {
+                log.warn("Formato inválido de CEP fornecido (após limpeza): '{}'", cleanedCep);
+                resultado = Resultado.INVALIDO;
+                return Optional.empty();
+            }
+
+            if (cepCache.isInexistente(cleanedCep)) {
+                log.debug("CEP {} consta no cache como inexistente.", cleanedCep);
+                resultado = Resultado.INEXISTENTE;
+                return Optional.empty();
+            }
 
-        String apiUrl = String.format("%s/%s/json/", cepApiBaseUrl, cleanedCep);
-        log.debug("Consultando ViaCEP API em: {}", apiUrl);
+            Optional<CepResponseDTO> emCache = cepCache.buscar(cleanedCep);
+            if (emCache.isPresent()) {
+                log.debug("CEP {} encontrado no cache.", cleanedCep);
+                resultado = Resultado.CACHE;
+                return emCache;
+            }
 
-        try {
-            ResponseEntity<CepResponseDTO> response = restTemplate.getForEntity(apiUrl, CepResponseDTO.class);
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                CepResponseDTO body = response.getBody();
-                if (body.hasError()) {
-                    log.warn("CEP {} consultado com sucesso, mas API retornou erro (CEP inexistente).", cleanedCep);
-                    return Optional.empty();
-                } else {
-                    log.info("CEP {} consultado com sucesso via ViaCEP.", cleanedCep);
-                    return Optional.of(body);
+            CompletableFuture<Optional<CepResponseDTO>> consulta = new CompletableFuture<>();
+            CompletableFuture<Optional<CepResponseDTO>> emAndamento = emVoo.putIfAbsent(cleanedCep, consulta);
+            try {
+                if (emAndamento != null) {
+                    log.debug("CEP {} já está sendo consultado no ViaCEP; aguardando a mesma resposta.", cleanedCep);
+                    Optional<CepResponseDTO> endereco = aguardar(cleanedCep, emAndamento);
+                    resultado = Resultado.COALESCIDA;
+                    return endereco;
                 }
-            } else {
-                log.warn("Consulta ao ViaCEP para {} retornou status {} ou corpo vazio.", cleanedCep, response.getStatusCode());
+                iniciar(cleanedCep, consulta);
+                Optional<CepResponseDTO> endereco = aguardar(cleanedCep, consulta);
+                resultado = endereco.isPresent() ? Resultado.VIACEP : Resultado.INEXISTENTE;
+                return endereco;
+            } catch (CepIndisponivelException e) {
+                log.error("Erro de comunicação ao consultar ViaCEP para {}: {}", cleanedCep, e.getMessage());
                 return Optional.empty();
             }
-        } catch (HttpClientErrorException.NotFound e) {
-             log.warn("ViaCEP API retornou 404 para CEP {}. URL: {}", cleanedCep, apiUrl);
-             return Optional.empty();
-        } catch (HttpClientErrorException.BadRequest e) {
-             log.warn("ViaCEP API retornou 400 Bad Request para CEP {}. Verifique o formato. URL: {}", cleanedCep, apiUrl);
-             return Optional.empty();
-        } catch (RestClientException e) {
-            log.error("Erro de comunicação ao consultar ViaCEP para {}: {}", cleanedCep, e.getMessage());
-            return Optional.empty();
-        } catch (Exception e) {
-            log.error("Erro inesperado ao processar consulta ViaCEP para {}: {}", cleanedCep, e.getMessage(), e);
-            return Optional.empty();
+        } finally {
+            amostra.stop(timers.get(resultado));
+        }
+    }
+
+    /**
+     * Só uma consulta por CEP vai ao ViaCEP de cada vez; quem pedir o mesmo CEP enquanto ela está em
+     * andamento recebe a mesma resposta. A consulta roda no {@code cepClientExecutor}, fora da thread de
+     * quem a iniciou, para que o cancelamento de um lote não a interrompa para os demais. O resultado
+     * entra no cache antes de a consulta sair do mapa, para que os pedidos seguintes já o encontrem lá.
+     */
+    private void consultarViaCep(String cep, CompletableFuture<Optional<CepResponseDTO>> consulta) {
+        try {
+            Optional<CepResponseDTO> endereco = viaCepClient.consultar(cep);
+            if (endereco.isPresent()) {
+                log.info("CEP {} consultado com sucesso via ViaCEP.", cep);
+                cepCache.registrar(cep, endereco.get());
+            } else {
+                cepCache.registrarInexistente(cep);
+            }
+            consulta.complete(endereco);
+        } catch (RuntimeException e) {
+            consulta.completeExceptionally(e);
+        } finally {
+            emVoo.remove(cep, consulta);
+        }
+    }
+
+    private void iniciar(String cep, CompletableFuture<Optional<CepResponseDTO>> consulta) {
+        try {
+            cepClientExecutor.execute(() -> consultarViaCep(cep, consulta));
+        } catch (RejectedExecutionException e) {
+            CepIndisponivelException falha = new CepIndisponivelException(
+                    "Sem threads livres para consultar o CEP " + cep + " no ViaCEP.", e);
+            consulta.completeExceptionally(falha);
+            emVoo.remove(cep, consulta);
+            throw falha;
+        }
+    }
+
+    /**
+     * Cada chamador espera no máximo {@code cep.lookup.timeout}; desistir não cancela a consulta,
+     * que continua e grava o resultado no cache para os próximos pedidos.
+     */
+    private Optional<CepResponseDTO> aguardar(String cep, CompletableFuture<Optional<CepResponseDTO>> consulta) {
+        try {
+            return consulta.get(consultaTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CepIndisponivelException("Consulta do CEP " + cep + " interrompida.", e);
+        } catch (TimeoutException e) {
+            throw new CepIndisponivelException("Tempo esgotado aguardando a consulta do CEP " + cep + ".", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new CepIndisponivelException("Erro inesperado ao consultar o CEP " + cep + ".", e.getCause());
         }
     }
 
     public boolean isParana(String cep) {
+        String uf = cepRegionIndex.ufOf(cep);
+        if (uf != null) {
+            return "PR".equals(uf);
+        }
+        log.debug("CEP {} fora das faixas conhecidas; consultando UF na API.", cep);
         return consultarCep(cep)
                 .map(CepResponseDTO::uf)
                 .map("PR"::equalsIgnoreCase)
                 .orElse(false);
     }
+
+    /**
+     * Resolve vários CEPs de uma vez: remove duplicados e consulta os restantes em paralelo,
+     * respeitando o prazo total {@code cep.lookup.batch-timeout}. O mapa retornado é indexado
+     * pelo CEP limpo e contém apenas os CEPs encontrados.
+     */
+    public Map<String, CepResponseDTO> resolveAll(Collection<String> ceps) {
+        return resolverEmParalelo(ceps, endereco -> false);
+    }
+
+    public boolean anyParana(Collection<String> ceps) {
+        Set<String> foraDasFaixas = new LinkedHashSet<>();
+        for (String cep : ceps) {
+            String uf = cepRegionIndex.ufOf(cep);
+            if (uf == null) {
+                foraDasFaixas.add(cep);
+            } else if ("PR".equals(uf)) {
+                return true;
+            }
+        }
+        return resolverEmParalelo(foraDasFaixas, CepService::isUfParana).values().stream()
+                .anyMatch(CepService::isUfParana);
+    }
+
+    private Map<String, CepResponseDTO> resolverEmParalelo(Collection<String> ceps, Predicate<CepResponseDTO> parada) {
+        Set<String> distintos = new LinkedHashSet<>();
+        for (String cep : ceps) {
+            String cleanedCep = limparCep(cep);
+            if (cleanedCep.length() == 8) {
+                distintos.add(cleanedCep);
+            }
+        }
+
+        Map<String, CepResponseDTO> resolvidos = new HashMap<>();
+        if (distintos.size() == 1) {
+            String cep = distintos.iterator().next();
+            consultarCep(cep).ifPresent(endereco -> resolvidos.put(cep, endereco));
+            return resolvidos;
+        }
+
+        long prazo = System.nanoTime() + batchTimeout.toNanos();
+        CompletionService<Map.Entry<String, Optional<CepResponseDTO>>> completionService =
+                new ExecutorCompletionService<>(cepLookupExecutor);
+        List<Future<Map.Entry<String, Optional<CepResponseDTO>>>> pendentes = new ArrayList<>();
+        for (String cep : distintos) {
+            if (prazo - System.nanoTime() <= 0) {
+                break;
+            }
+            try {
+                pendentes.add(completionService.submit(() -> Map.entry(cep, consultarCep(cep))));
+            } catch (RejectedExecutionException e) {
+                log.warn("Fila de consultas de CEP cheia; o CEP {} ficou sem resposta.", cep);
+            }
+        }
+
+        try {
+            for (int recebidos = 0; recebidos < pendentes.size(); recebidos++) {
+                Future<Map.Entry<String, Optional<CepResponseDTO>>> concluido =
+                        completionService.poll(prazo - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (concluido == null) {
+                    log.warn("Prazo de {} esgotado ao consultar {} CEPs; {} ficaram sem resposta.",
+                            batchTimeout, distintos.size(), distintos.size() - resolvidos.size());
+                    break;
+                }
+                Map.Entry<String, Optional<CepResponseDTO>> resultado = concluido.get();
+                if (resultado.getValue().isPresent()) {
+                    CepResponseDTO endereco = resultado.getValue().get();
+                    resolvidos.put(resultado.getKey(), endereco);
+                    if (parada.test(endereco)) {
+                        break;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("Erro inesperado ao consultar CEPs em lote: {}", e.getCause().getMessage(), e.getCause());
+        } finally {
+            pendentes.forEach(future -> future.cancel(false));
+        }
+        return resolvidos;
+    }
+
+    private static boolean isUfParana(CepResponseDTO endereco) {
+        return "PR".equalsIgnoreCase(endereco.uf());
+    }
+
+    private enum Resultado {
+        CACHE("cache"), VIACEP("viacep"), COALESCIDA("coalescida"), INEXISTENTE("inexistente"), INVALIDO("invalido"),
+        ERRO("erro");
+
+        private final String tag;
+
+        Resultado(String tag) {
+            this.tag = tag;
+        }
+    }
 }
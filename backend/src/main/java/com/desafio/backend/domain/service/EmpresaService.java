@@ -2,71 +2,186 @@ package com.desafio.backend.domain.service;
 
 import com.desafio.backend.domain.exception.BusinessException;
 import com.desafio.backend.domain.exception.ResourceNotFoundException;
+import com.desafio.backend.domain.exception.VersaoDesatualizadaException;
 import com.desafio.backend.domain.model.Empresa;
 import com.desafio.backend.domain.model.Fornecedor;
 import com.desafio.backend.domain.repository.EmpresaRepository;
+import com.desafio.backend.domain.repository.EmpresaResumo;
+import com.desafio.backend.domain.repository.EmpresaSpecification;
 import com.desafio.backend.domain.repository.FornecedorRepository;
-import jakarta.transaction.Transactional;
+import com.desafio.backend.domain.repository.ListagemRepository;
+import com.desafio.backend.domain.repository.Localidade;
+import com.desafio.backend.domain.repository.Versao;
+import com.desafio.backend.domain.repository.VersaoRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "servico", histogram = true)
 public class EmpresaService {
 
     private final EmpresaRepository empresaRepository;
     private final FornecedorRepository fornecedorRepository;
     private final CepService cepService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntidadeCache entidadeCache;
+    private final VersaoRepository versaoRepository;
+    private final ListagemRepository listagemRepository;
+    private final ExclusaoService exclusaoService;
+
+    @Transactional(readOnly = true)
+    public Page<EmpresaResumo> listarTodas(String nomeFantasia, String cnpj, String cep, Pageable pageable) {
+        String cepFilter = StringUtils.hasText(cep) ? CepService.limparCep(cep) : null;
+        Specification<Empresa> spec = EmpresaSpecification.filterBy(nomeFantasia, cnpj, cepFilter);
+        return listagemRepository.listar(Empresa.class, EmpresaResumo.class, EmpresaResumo::colunas, spec, pageable);
+    }
 
-    public List<Empresa> listarTodas() {
-        return empresaRepository.findAll();
+    @Transactional(readOnly = true)
+    public Versao versaoDaListagem(String nomeFantasia, String cnpj, String cep) {
+        String cepFilter = StringUtils.hasText(cep) ? CepService.limparCep(cep) : null;
+        return versaoRepository.buscar(Empresa.class, EmpresaSpecification.filterBy(nomeFantasia, cnpj, cepFilter));
     }
 
+    @Transactional(readOnly = true)
+    public Versao versao(Long id) {
+        Versao versao = versaoRepository.buscar(Empresa.class, id);
+        if (versao.total() == 0) {
+            throw new ResourceNotFoundException("Empresa não encontrada com ID: " + id);
+        }
+        return versao;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, Set<Long>> buscarFornecedorIds(Collection<Long> empresaIds) {
+        if (empresaIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, Set<Long>> fornecedorIds = new HashMap<>();
+        for (Object[] par : empresaRepository.findFornecedorIdsByEmpresaIdIn(empresaIds)) {
+            fornecedorIds.computeIfAbsent(((Number) par[0]).longValue(), id -> new HashSet<>())
+                    .add(((Number) par[1]).longValue());
+        }
+        return fornecedorIds;
+    }
+
+    @Transactional(readOnly = true)
     public Empresa buscarPorId(Long id) {
-        return empresaRepository.findById(id)
+        Empresa empresa = empresaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Empresa não encontrada com ID: " + id));
+        // vinda do cache de segundo nível, a coleção não passa pelo entity graph
+        Hibernate.initialize(empresa.getFornecedores());
+        return empresa;
     }
 
-    @Transactional
     public Empresa salvar(Empresa empresa, Set<Long> fornecedorIds) {
-        cepService.consultarCep(empresa.getCep())
-                .orElseThrow(() -> new BusinessException("CEP inválido ou não encontrado: " + empresa.getCep()));
+        return salvar(empresa, fornecedorIds, null);
+    }
 
-        empresaRepository.findByCnpj(empresa.getCnpj())
-                .filter(existing -> !existing.getId().equals(empresa.getId()))
-                .ifPresent(existing -> {
-                    throw new BusinessException("CNPJ já cadastrado: " + empresa.getCnpj());
-                });
+    /**
+     * Com {@code versaoEsperada}, grava só se o {@code updatedAt} da empresa ainda for esse, na mesma transação
+     * da gravação.
+     */
+    public Empresa salvar(Empresa empresa, Set<Long> fornecedorIds, OffsetDateTime versaoEsperada) {
+        CepService.localizar(empresa, cepService.consultarCep(empresa.getCep())
+                .orElseThrow(() -> new BusinessException("CEP inválido ou não encontrado: " + empresa.getCep())));
+
+        Set<Long> alterados = new HashSet<>();
+        Empresa salva = transactionTemplate.execute(status -> persistir(empresa, fornecedorIds, versaoEsperada, alterados));
+        entidadeCache.invalidarAssociacoes(List.of(), alterados);
+        return salva;
+    }
 
+    private Empresa persistir(Empresa empresa, Set<Long> fornecedorIds, OffsetDateTime versaoEsperada, Set<Long> alterados) {
+        if (versaoEsperada != null
+                && empresaRepository.marcarAlteracaoSeNaVersao(empresa.getId(), versaoEsperada, OffsetDateTime.now()) == 0) {
+            throw new VersaoDesatualizadaException("Empresa " + empresa.getId() + " foi alterada por outra requisição.");
+        }
+        Set<Long> anteriores = empresa.getId() == null
+                ? Set.of()
+                : buscarFornecedorIds(List.of(empresa.getId())).getOrDefault(empresa.getId(), Set.of());
         Set<Fornecedor> resolvedFornecedores = resolveFornecedores(fornecedorIds);
         empresa.setFornecedores(resolvedFornecedores);
+        empresa.marcarAlteracao();
 
-        Empresa savedEmpresa = empresaRepository.save(empresa);
+        Empresa savedEmpresa = empresaRepository.saveAndFlush(empresa);
 
-        updateFornecedorEmpresas(savedEmpresa, resolvedFornecedores);
+        alterados.addAll(updateFornecedorEmpresas(savedEmpresa, anteriores, resolvedFornecedores));
 
         return savedEmpresa;
     }
 
-    @Transactional
-    public void deletar(Long id) {
-        Empresa empresa = buscarPorId(id);
+    public void associarFornecedores(Long id, Set<Long> fornecedorIds) {
+        FornecedorService.exigirIds(fornecedorIds);
+        List<Localidade> localidade = empresaRepository.findLocalidadesByIdIn(List.of(id));
+        if (localidade.isEmpty()) {
+            throw new ResourceNotFoundException("Empresa não encontrada com ID: " + id);
+        }
+        Set<Long> encontrados = fornecedorRepository.findExistingIds(fornecedorIds);
+        if (encontrados.size() != fornecedorIds.size()) {
+            throw new ResourceNotFoundException("Um ou mais fornecedores não encontrados com IDs: "
+                    + FornecedorService.diferenca(fornecedorIds, encontrados));
+        }
+        if (fornecedorRepository.existsMenorDeIdade(fornecedorIds, FornecedorService.limiteMaioridade())
+                && FornecedorService.algumaNoParana(localidade, cepService)) {
+            throw new BusinessException(FornecedorService.MENOR_NO_PARANA);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (empresaRepository.insertFornecedores(id, fornecedorIds) > 0) {
+                marcarAlteracao(List.of(id), fornecedorIds);
+            }
+        });
+        entidadeCache.invalidarAssociacoes(List.of(id), fornecedorIds);
+    }
+
+    public void desassociarFornecedores(Long id, Set<Long> fornecedorIds) {
+        FornecedorService.exigirIds(fornecedorIds);
+        if (!empresaRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Empresa não encontrada com ID: " + id);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (empresaRepository.deleteFornecedores(id, fornecedorIds) > 0) {
+                marcarAlteracao(List.of(id), fornecedorIds);
+            }
+        });
+        entidadeCache.invalidarAssociacoes(List.of(id), fornecedorIds);
+    }
 
-        empresa.getFornecedores().forEach(f -> f.getEmpresas().remove(empresa));
+    public void deletar(Long id) {
+        if (exclusaoService.excluirEmpresas(List.of(id)) == 0) {
+            throw new ResourceNotFoundException("Empresa não encontrada com ID: " + id);
+        }
+    }
 
-        empresaRepository.delete(empresa);
+    private void marcarAlteracao(Collection<Long> empresaIds, Collection<Long> fornecedorIds) {
+        OffsetDateTime agora = OffsetDateTime.now();
+        empresaRepository.marcarAlteracao(empresaIds, agora);
+        fornecedorRepository.marcarAlteracao(fornecedorIds, agora);
     }
 
     private Set<Fornecedor> resolveFornecedores(Set<Long> fornecedorIds) {
         if (fornecedorIds == null || fornecedorIds.isEmpty()) {
             return new HashSet<>();
         }
-        Set<Fornecedor> fornecedores = new HashSet<>(fornecedorRepository.findAllById(fornecedorIds));
+        Set<Fornecedor> fornecedores = new HashSet<>(entidadeCache.buscarTodos(Fornecedor.class, fornecedorIds));
         if (fornecedores.size() != fornecedorIds.size()) {
             Set<Long> foundIds = fornecedores.stream().map(Fornecedor::getId).collect(Collectors.toSet());
             fornecedorIds.removeAll(foundIds);
@@ -75,17 +190,32 @@ public class EmpresaService {
         return fornecedores;
     }
 
-    private void updateFornecedorEmpresas(Empresa empresa, Set<Fornecedor> currentFornecedores) {
-        List<Fornecedor> oldSuppliers = fornecedorRepository.findAllById(
-            empresaRepository.findById(empresa.getId())
-                             .map(e -> e.getFornecedores().stream().map(Fornecedor::getId).collect(Collectors.toSet()))
-                             .orElse(new HashSet<>())
-        );
-
-        oldSuppliers.stream()
-            .filter(f -> !currentFornecedores.contains(f))
-            .forEach(f -> f.getEmpresas().remove(empresa));
-
-        currentFornecedores.forEach(f -> f.getEmpresas().add(empresa));
+    /**
+     * Mantém o lado inverso ({@code Fornecedor.empresas}) só onde a coleção já está carregada; carregá-la
+     * para cada fornecedor custaria uma consulta por fornecedor. Devolve os fornecedores alterados, cujas
+     * coleções em cache precisam ser invalidadas depois do commit.
+     */
+    private Set<Long> updateFornecedorEmpresas(Empresa empresa, Set<Long> anteriores, Set<Fornecedor> currentFornecedores) {
+        Set<Long> atuais = currentFornecedores.stream().map(Fornecedor::getId).collect(Collectors.toSet());
+        Set<Long> alterados = new HashSet<>();
+
+        entidadeCache.buscarTodos(Fornecedor.class, FornecedorService.diferenca(anteriores, atuais)).forEach(f -> {
+            if (Hibernate.isInitialized(f.getEmpresas())) {
+                f.getEmpresas().remove(empresa);
+            }
+            f.marcarAlteracao();
+            alterados.add(f.getId());
+        });
+
+        currentFornecedores.stream()
+            .filter(f -> !anteriores.contains(f.getId()))
+            .forEach(f -> {
+                if (Hibernate.isInitialized(f.getEmpresas())) {
+                    f.getEmpresas().add(empresa);
+                }
+                f.marcarAlteracao();
+                alterados.add(f.getId());
+            });
+        return alterados;
     }
 }
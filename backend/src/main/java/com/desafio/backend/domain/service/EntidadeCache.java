@@ -0,0 +1,72 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.domain.model.Empresa;
+import com.desafio.backend.domain.model.Fornecedor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Acesso ao cache de segundo nível do Hibernate: carga de entidades por id passando pelo cache,
+ * invalidação das coleções alteradas por SQL nativo (que o Hibernate não acompanha) e estatísticas por região.
+ */
+@Component
+public class EntidadeCache {
+
+    private static final String EMPRESA_FORNECEDORES = Empresa.class.getName() + ".fornecedores";
+    private static final String FORNECEDOR_EMPRESAS = Fornecedor.class.getName() + ".empresas";
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+    private final Cache cache;
+
+    public EntidadeCache(EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+        this.entityManager = entityManager;
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.statistics = sessionFactory.getStatistics();
+        this.cache = sessionFactory.getCache();
+    }
+
+    /**
+     * Equivalente a {@code findAllById}, mas consulta o contexto de persistência e o cache antes do banco;
+     * ids inexistentes são ignorados. Precisa de uma transação ativa.
+     */
+    public <T> List<T> buscarTodos(Class<T> tipo, Collection<Long> ids) {
+        return entityManager.unwrap(Session.class).byMultipleIds(tipo)
+                .multiLoad(List.copyOf(ids)).stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public void invalidarAssociacoes(Collection<Long> empresaIds, Collection<Long> fornecedorIds) {
+        empresaIds.forEach(id -> cache.evictCollectionData(EMPRESA_FORNECEDORES, id));
+        fornecedorIds.forEach(id -> cache.evictCollectionData(FORNECEDOR_EMPRESAS, id));
+    }
+
+    public Estatisticas estatisticas() {
+        List<Regiao> regioes = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(nome -> {
+                    CacheRegionStatistics regiao = statistics.getDomainDataRegionStatistics(nome);
+                    return new Regiao(nome, regiao.getHitCount(), regiao.getMissCount(), regiao.getPutCount(),
+                            regiao.getElementCountInMemory());
+                })
+                .toList();
+        return new Estatisticas(statistics.isStatisticsEnabled(), statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount(), regioes);
+    }
+
+    public record Regiao(String nome, long hits, long misses, long puts, long size) {}
+
+    public record Estatisticas(boolean enabled, long hits, long misses, long puts, List<Regiao> regioes) {}
+}
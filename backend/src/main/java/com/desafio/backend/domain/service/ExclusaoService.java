@@ -0,0 +1,141 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.repository.EmpresaRepository;
+import com.desafio.backend.domain.repository.FornecedorRepository;
+import com.desafio.backend.domain.repository.ListagemRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Exclusão de fornecedores e empresas por comandos sobre conjuntos: o {@code updatedAt} do outro lado
+ * da associação é atualizado com um único update e o delete em massa do Hibernate remove as linhas de
+ * {@code empresa_fornecedor} e as entidades do lote, sem carregar nenhuma coleção. Exclusões
+ * em massa andam em lotes de tamanho fixo, cada um na sua transação; ids inexistentes são ignorados.
+ */
+@Service
+public class ExclusaoService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExclusaoService.class);
+
+    private final FornecedorRepository fornecedorRepository;
+    private final EmpresaRepository empresaRepository;
+    private final ListagemRepository listagemRepository;
+    private final FornecedorPrefixIndex prefixIndex;
+    private final EntidadeCache entidadeCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public ExclusaoService(FornecedorRepository fornecedorRepository,
+                           EmpresaRepository empresaRepository,
+                           ListagemRepository listagemRepository,
+                           FornecedorPrefixIndex prefixIndex,
+                           EntidadeCache entidadeCache,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${exclusao.chunk-size:500}") int chunkSize) {
+        this.fornecedorRepository = fornecedorRepository;
+        this.empresaRepository = empresaRepository;
+        this.listagemRepository = listagemRepository;
+        this.prefixIndex = prefixIndex;
+        this.entidadeCache = entidadeCache;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    public long excluirFornecedores(Collection<Long> ids) {
+        List<Long> ordenados = ids.stream().distinct().sorted().toList();
+        long excluidos = 0;
+        for (int inicio = 0; inicio < ordenados.size(); inicio += chunkSize) {
+            List<Long> lote = ordenados.subList(inicio, Math.min(inicio + chunkSize, ordenados.size()));
+            excluidos += excluirFornecedores(() -> fornecedorRepository.findExistingIds(lote)).excluidos();
+        }
+        registrar("fornecedores", excluidos);
+        return excluidos;
+    }
+
+    /**
+     * Exclui todos os fornecedores que atendem ao filtro. Cada lote seleciona os próximos ids pela
+     * ordem de id, já que os do lote anterior não existem mais.
+     */
+    public long excluirFornecedores(Specification<Fornecedor> spec) {
+        long excluidos = 0;
+        Lote lote;
+        do {
+            lote = excluirFornecedores(() -> listagemRepository.listar(Fornecedor.class, Long.class,
+                    (root, criteriaBuilder) -> root.get("id"), spec, Sort.by("id"), chunkSize));
+            excluidos += lote.excluidos();
+        } while (lote.selecionados() == chunkSize);
+        registrar("fornecedores", excluidos);
+        return excluidos;
+    }
+
+    public long excluirEmpresas(Collection<Long> ids) {
+        List<Long> ordenados = ids.stream().distinct().sorted().toList();
+        long excluidos = 0;
+        for (int inicio = 0; inicio < ordenados.size(); inicio += chunkSize) {
+            List<Long> lote = ordenados.subList(inicio, Math.min(inicio + chunkSize, ordenados.size()));
+            excluidos += excluirEmpresas(lote);
+        }
+        registrar("empresas", excluidos);
+        return excluidos;
+    }
+
+    private Lote excluirFornecedores(Supplier<Collection<Long>> selecao) {
+        Exclusao exclusao = transactionTemplate.execute(status -> {
+            List<Long> ids = List.copyOf(selecao.get());
+            if (ids.isEmpty()) {
+                return new Exclusao(ids, Set.of(), 0);
+            }
+            Set<Long> empresaIds = fornecedorRepository.findEmpresaIdsByFornecedorIdIn(ids).stream()
+                    .map(par -> ((Number) par[1]).longValue())
+                    .collect(Collectors.toSet());
+            if (!empresaIds.isEmpty()) {
+                empresaRepository.marcarAlteracaoPorFornecedores(ids, OffsetDateTime.now());
+            }
+            return new Exclusao(ids, empresaIds, fornecedorRepository.deleteByIdIn(ids));
+        });
+        entidadeCache.invalidarAssociacoes(exclusao.associados(), exclusao.ids());
+        exclusao.ids().forEach(prefixIndex::remover);
+        return new Lote(exclusao.ids().size(), exclusao.excluidos());
+    }
+
+    private int excluirEmpresas(List<Long> lote) {
+        Exclusao exclusao = transactionTemplate.execute(status -> {
+            List<Long> ids = List.copyOf(empresaRepository.findExistingIds(lote));
+            if (ids.isEmpty()) {
+                return new Exclusao(ids, Set.of(), 0);
+            }
+            Set<Long> fornecedorIds = empresaRepository.findFornecedorIdsByEmpresaIdIn(ids).stream()
+                    .map(par -> ((Number) par[1]).longValue())
+                    .collect(Collectors.toSet());
+            if (!fornecedorIds.isEmpty()) {
+                fornecedorRepository.marcarAlteracaoPorEmpresas(ids, OffsetDateTime.now());
+            }
+            return new Exclusao(ids, fornecedorIds, empresaRepository.deleteByIdIn(ids));
+        });
+        entidadeCache.invalidarAssociacoes(exclusao.ids(), exclusao.associados());
+        return exclusao.excluidos();
+    }
+
+    private void registrar(String tipo, long excluidos) {
+        if (excluidos > 1) {
+            log.info("Exclusão em massa concluída: {} {} excluídos.", excluidos, tipo);
+        }
+    }
+
+    private record Exclusao(List<Long> ids, Set<Long> associados, int excluidos) {}
+
+    private record Lote(int selecionados, int excluidos) {}
+}
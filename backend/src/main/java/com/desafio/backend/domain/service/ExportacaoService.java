@@ -0,0 +1,114 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.domain.model.BaseEntity;
+import com.desafio.backend.domain.model.Empresa;
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.repository.EmpresaRepository;
+import com.desafio.backend.domain.repository.EmpresaSpecification;
+import com.desafio.backend.domain.repository.FornecedorRepository;
+import com.desafio.backend.domain.repository.FornecedorSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Exportação de fornecedores e empresas a partir de um cursor somente-leitura. Cada entidade é
+ * desanexada assim que lida, e os ids das associações são buscados por lote de {@code fetchSize}
+ * registros, então a memória usada não cresce com o volume exportado.
+ */
+@Service
+public class ExportacaoService {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate leitura;
+    private final FornecedorRepository fornecedorRepository;
+    private final EmpresaRepository empresaRepository;
+    private final int fetchSize;
+
+    public ExportacaoService(EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             FornecedorRepository fornecedorRepository,
+                             EmpresaRepository empresaRepository,
+                             @Value("${exportacao.fetch-size:1000}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setReadOnly(true);
+        this.fornecedorRepository = fornecedorRepository;
+        this.empresaRepository = empresaRepository;
+        this.fetchSize = fetchSize;
+    }
+
+    public void exportarFornecedores(String nome, String identificadorFiscal, BiConsumer<Fornecedor, Set<Long>> destino) {
+        exportar(Fornecedor.class, FornecedorSpecification.filterBy(nome, identificadorFiscal),
+                fornecedorRepository::findEmpresaIdsByFornecedorIdIn, destino);
+    }
+
+    public void exportarEmpresas(String nomeFantasia, String cnpj, String cep, BiConsumer<Empresa, Set<Long>> destino) {
+        String cepFilter = StringUtils.hasText(cep) ? CepService.limparCep(cep) : null;
+        exportar(Empresa.class, EmpresaSpecification.filterBy(nomeFantasia, cnpj, cepFilter),
+                empresaRepository::findFornecedorIdsByEmpresaIdIn, destino);
+    }
+
+    private <E extends BaseEntity> void exportar(Class<E> tipo, Specification<E> spec,
+                                                 Function<Collection<Long>, List<Object[]>> associacoes,
+                                                 BiConsumer<E, Set<Long>> destino) {
+        leitura.executeWithoutResult(status -> {
+            CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+            CriteriaQuery<E> query = criteriaBuilder.createQuery(tipo);
+            Root<E> root = query.from(tipo);
+            query.where(spec.toPredicate(root, query, criteriaBuilder)).orderBy(criteriaBuilder.asc(root.get("id")));
+
+            List<E> lote = new ArrayList<>(fetchSize);
+            try (Stream<E> linhas = entityManager.createQuery(query)
+                    .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+                    .getResultStream()) {
+                linhas.forEach(entidade -> {
+                    entityManager.detach(entidade);
+                    lote.add(entidade);
+                    if (lote.size() == fetchSize) {
+                        emitir(lote, associacoes, destino);
+                        lote.clear();
+                    }
+                });
+            }
+            emitir(lote, associacoes, destino);
+        });
+    }
+
+    private static <E extends BaseEntity> void emitir(List<E> lote, Function<Collection<Long>, List<Object[]>> associacoes,
+                                                      BiConsumer<E, Set<Long>> destino) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(lote.size());
+        lote.forEach(entidade -> ids.add(entidade.getId()));
+        Map<Long, Set<Long>> porId = new HashMap<>();
+        for (Object[] par : associacoes.apply(ids)) {
+            porId.computeIfAbsent(((Number) par[0]).longValue(), id -> new HashSet<>()).add(((Number) par[1]).longValue());
+        }
+        lote.forEach(entidade -> destino.accept(entidade, porId.getOrDefault(entidade.getId(), Collections.emptySet())));
+    }
+}
@@ -0,0 +1,406 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.repository.FornecedorRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Índice de prefixos em memória para o typeahead de fornecedores, por nome (sem acentos, minúsculo)
+ * e por identificador fiscal. A base é imutável e guarda tudo em arrays primitivos ordenados; escritas
+ * vão para uma camada de deltas que é mesclada à base em segundo plano quando passa do limite.
+ * Leituras não usam locks.
+ */
+@Component
+public class FornecedorPrefixIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(FornecedorPrefixIndex.class);
+    private static final int LOTE_CARGA = 10_000;
+
+    private final FornecedorRepository fornecedorRepository;
+    private final int overlayMaxSize;
+    private final ReentrantLock escrita = new ReentrantLock();
+    private final AtomicBoolean compactando = new AtomicBoolean();
+    private final ExecutorService compactador = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "fornecedor-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Estado estado = new Estado(Base.construir(List.of()), new ConcurrentHashMap<>());
+    private volatile boolean pronto;
+
+    public FornecedorPrefixIndex(FornecedorRepository fornecedorRepository,
+                                 @Value("${fornecedor.index.overlay-max-size:10000}") int overlayMaxSize) {
+        this.fornecedorRepository = fornecedorRepository;
+        this.overlayMaxSize = overlayMaxSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        try {
+            long inicio = System.nanoTime();
+            List<Entrada> entradas = new ArrayList<>();
+            long ultimoId = 0;
+            List<Object[]> lote;
+            do {
+                lote = fornecedorRepository.findIndexRowsAfter(ultimoId, PageRequest.of(0, LOTE_CARGA));
+                for (Object[] linha : lote) {
+                    ultimoId = ((Number) linha[0]).longValue();
+                    entradas.add(Entrada.of(ultimoId, (String) linha[1], (String) linha[2]));
+                }
+            } while (lote.size() == LOTE_CARGA);
+
+            Base base = Base.construir(entradas);
+            escrita.lock();
+            try {
+                estado = new Estado(base, estado.overlay());
+                pronto = true;
+            } finally {
+                escrita.unlock();
+            }
+            log.info("Índice de fornecedores carregado com {} registros em {} ms ({} KB).",
+                    base.tamanho(), (System.nanoTime() - inicio) / 1_000_000, base.bytesEstimados() / 1024);
+        } catch (Exception e) {
+            log.warn("Não foi possível carregar o índice de fornecedores: {}", e.getMessage());
+        }
+    }
+
+    public boolean isPronto() {
+        return pronto;
+    }
+
+    public void registrar(Fornecedor fornecedor) {
+        atualizar(Entrada.of(fornecedor.getId(), fornecedor.getNome(), fornecedor.getIdentificadorFiscal()));
+    }
+
+    public void remover(Long id) {
+        atualizar(Entrada.removida(id));
+    }
+
+    /**
+     * Termos que começam com dígito são buscados no identificador fiscal (ignorando pontuação);
+     * os demais, no nome normalizado. O resultado vem ordenado pela chave buscada e depois pelo id.
+     */
+    public List<Sugestao> sugerir(String termo, int limite) {
+        if (termo == null || termo.isBlank() || limite <= 0) {
+            return List.of();
+        }
+        String limpo = termo.strip();
+        boolean porDocumento = Character.isDigit(limpo.charAt(0));
+        byte[] prefixo = (porDocumento ? limparDocumento(limpo) : normalizar(limpo)).getBytes(StandardCharsets.UTF_8);
+
+        Estado atual = estado;
+        Map<Long, Entrada> overlay = atual.overlay();
+        List<Entrada> candidatos = new ArrayList<>(limite);
+        atual.base().coletar(prefixo, porDocumento, limite, overlay, candidatos);
+        if (!overlay.isEmpty()) {
+            for (Entrada entrada : overlay.values()) {
+                if (!entrada.removida() && comecaCom(porDocumento ? entrada.documento() : entrada.chave(), prefixo)) {
+                    candidatos.add(entrada);
+                }
+            }
+            candidatos.sort(porDocumento ? Entrada.ORDEM_DOCUMENTO : Entrada.ORDEM_NOME);
+        }
+
+        List<Sugestao> sugestoes = new ArrayList<>(Math.min(limite, candidatos.size()));
+        for (int i = 0; i < candidatos.size() && i < limite; i++) {
+            Entrada entrada = candidatos.get(i);
+            sugestoes.add(new Sugestao(entrada.id(), entrada.nome(), new String(entrada.documento(), StandardCharsets.UTF_8)));
+        }
+        return sugestoes;
+    }
+
+    public Estatisticas estatisticas() {
+        Estado atual = estado;
+        return new Estatisticas(pronto, atual.base().tamanho(), atual.overlay().size(), atual.base().bytesEstimados());
+    }
+
+    @PreDestroy
+    void encerrar() {
+        compactador.shutdownNow();
+    }
+
+    private void atualizar(Entrada entrada) {
+        int pendentes;
+        escrita.lock();
+        try {
+            Map<Long, Entrada> overlay = estado.overlay();
+            overlay.put(entrada.id(), entrada);
+            pendentes = overlay.size();
+        } finally {
+            escrita.unlock();
+        }
+        if (pendentes >= overlayMaxSize && compactando.compareAndSet(false, true)) {
+            compactador.execute(this::compactar);
+        }
+    }
+
+    private void compactar() {
+        try {
+            Estado inicial = estado;
+            Map<Long, Entrada> mescladas = new HashMap<>(inicial.overlay());
+            Base nova = inicial.base().mesclar(mescladas);
+
+            escrita.lock();
+            try {
+                Estado atual = estado;
+                if (atual.base() != inicial.base()) {
+                    return;
+                }
+                ConcurrentHashMap<Long, Entrada> restantes = new ConcurrentHashMap<>();
+                atual.overlay().forEach((id, entrada) -> {
+                    if (mescladas.get(id) != entrada) {
+                        restantes.put(id, entrada);
+                    }
+                });
+                estado = new Estado(nova, restantes);
+            } finally {
+                escrita.unlock();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao compactar o índice de fornecedores: {}", e.getMessage());
+        } finally {
+            compactando.set(false);
+        }
+    }
+
+    static String normalizar(String texto) {
+        String decomposto = Normalizer.isNormalized(texto, Normalizer.Form.NFD)
+                ? texto : Normalizer.normalize(texto, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(decomposto.length());
+        boolean espaco = false;
+        for (int i = 0; i < decomposto.length(); i++) {
+            char c = decomposto.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                espaco = sb.length() > 0;
+                continue;
+            }
+            if (espaco) {
+                sb.append(' ');
+                espaco = false;
+            }
+            sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    private static String limparDocumento(String documento) {
+        StringBuilder sb = new StringBuilder(documento.length());
+        for (int i = 0; i < documento.length(); i++) {
+            char c = documento.charAt(i);
+            if (c != '.' && c != '-' && c != '/' && !Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean comecaCom(byte[] valor, byte[] prefixo) {
+        return valor.length >= prefixo.length
+                && Arrays.equals(valor, 0, prefixo.length, prefixo, 0, prefixo.length);
+    }
+
+    private record Estado(Base base, Map<Long, Entrada> overlay) {}
+
+    record Entrada(long id, String nome, byte[] chave, byte[] documento, boolean removida) {
+
+        static final Comparator<Entrada> ORDEM_NOME = (a, b) -> {
+            int comparacao = Arrays.compareUnsigned(a.chave, b.chave);
+            return comparacao != 0 ? comparacao : Long.compare(a.id, b.id);
+        };
+
+        static final Comparator<Entrada> ORDEM_DOCUMENTO = (a, b) -> {
+            int comparacao = Arrays.compareUnsigned(a.documento, b.documento);
+            return comparacao != 0 ? comparacao : Long.compare(a.id, b.id);
+        };
+
+        static Entrada of(long id, String nome, String identificadorFiscal) {
+            return new Entrada(id, nome, normalizar(nome).getBytes(StandardCharsets.UTF_8),
+                    limparDocumento(identificadorFiscal).getBytes(StandardCharsets.UTF_8), false);
+        }
+
+        static Entrada removida(long id) {
+            return new Entrada(id, null, null, null, true);
+        }
+    }
+
+    /**
+     * Snapshot imutável. Para cada posição (em ordem de nome normalizado) guarda id, chave, nome
+     * original e identificador fiscal em arrays de bytes contíguos com offsets; {@code ordemDocumento}
+     * é a permutação das posições ordenada por identificador fiscal.
+     */
+    static final class Base {
+
+        private final long[] ids;
+        private final byte[] chaves;
+        private final int[] chaveOffsets;
+        private final byte[] nomes;
+        private final int[] nomeOffsets;
+        private final byte[] documentos;
+        private final int[] documentoOffsets;
+        private final int[] ordemDocumento;
+
+        private Base(long[] ids, byte[] chaves, int[] chaveOffsets, byte[] nomes, int[] nomeOffsets,
+                     byte[] documentos, int[] documentoOffsets, int[] ordemDocumento) {
+            this.ids = ids;
+            this.chaves = chaves;
+            this.chaveOffsets = chaveOffsets;
+            this.nomes = nomes;
+            this.nomeOffsets = nomeOffsets;
+            this.documentos = documentos;
+            this.documentoOffsets = documentoOffsets;
+            this.ordemDocumento = ordemDocumento;
+        }
+
+        static Base construir(Collection<Entrada> origem) {
+            List<Entrada> entradas = new ArrayList<>(origem);
+            entradas.sort(Entrada.ORDEM_NOME);
+            int n = entradas.size();
+
+            long[] ids = new long[n];
+            List<byte[]> nomesUtf8 = new ArrayList<>(n);
+            int[] tamanhos = new int[3];
+            for (int i = 0; i < n; i++) {
+                Entrada entrada = entradas.get(i);
+                ids[i] = entrada.id();
+                byte[] nome = entrada.nome().getBytes(StandardCharsets.UTF_8);
+                nomesUtf8.add(nome);
+                tamanhos[0] += entrada.chave().length;
+                tamanhos[1] += nome.length;
+                tamanhos[2] += entrada.documento().length;
+            }
+
+            byte[] chaves = new byte[tamanhos[0]];
+            byte[] nomes = new byte[tamanhos[1]];
+            byte[] documentos = new byte[tamanhos[2]];
+            int[] chaveOffsets = new int[n + 1];
+            int[] nomeOffsets = new int[n + 1];
+            int[] documentoOffsets = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                Entrada entrada = entradas.get(i);
+                chaveOffsets[i + 1] = copiar(entrada.chave(), chaves, chaveOffsets[i]);
+                nomeOffsets[i + 1] = copiar(nomesUtf8.get(i), nomes, nomeOffsets[i]);
+                documentoOffsets[i + 1] = copiar(entrada.documento(), documentos, documentoOffsets[i]);
+            }
+
+            Integer[] posicoes = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                posicoes[i] = i;
+            }
+            Arrays.sort(posicoes, (a, b) -> {
+                int comparacao = Arrays.compareUnsigned(documentos, documentoOffsets[a], documentoOffsets[a + 1],
+                        documentos, documentoOffsets[b], documentoOffsets[b + 1]);
+                return comparacao != 0 ? comparacao : Long.compare(ids[a], ids[b]);
+            });
+            int[] ordemDocumento = new int[n];
+            for (int i = 0; i < n; i++) {
+                ordemDocumento[i] = posicoes[i];
+            }
+
+            return new Base(ids, chaves, chaveOffsets, nomes, nomeOffsets, documentos, documentoOffsets, ordemDocumento);
+        }
+
+        Base mesclar(Map<Long, Entrada> overlay) {
+            List<Entrada> entradas = new ArrayList<>(ids.length + overlay.size());
+            for (int i = 0; i < ids.length; i++) {
+                if (!overlay.containsKey(ids[i])) {
+                    entradas.add(entrada(i));
+                }
+            }
+            for (Entrada entrada : overlay.values()) {
+                if (!entrada.removida()) {
+                    entradas.add(entrada);
+                }
+            }
+            return construir(entradas);
+        }
+
+        void coletar(byte[] prefixo, boolean porDocumento, int limite, Map<Long, Entrada> ignorar, List<Entrada> destino) {
+            int n = ids.length;
+            int inicio = porDocumento ? limiteInferior(documentos, documentoOffsets, ordemDocumento, prefixo)
+                    : limiteInferior(chaves, chaveOffsets, null, prefixo);
+            for (int i = inicio; i < n && destino.size() < limite; i++) {
+                int posicao = porDocumento ? ordemDocumento[i] : i;
+                byte[] dados = porDocumento ? documentos : chaves;
+                int[] offsets = porDocumento ? documentoOffsets : chaveOffsets;
+                int de = offsets[posicao];
+                if (offsets[posicao + 1] - de < prefixo.length
+                        || !Arrays.equals(dados, de, de + prefixo.length, prefixo, 0, prefixo.length)) {
+                    break;
+                }
+                if (!ignorar.containsKey(ids[posicao])) {
+                    destino.add(entrada(posicao));
+                }
+            }
+        }
+
+        int tamanho() {
+            return ids.length;
+        }
+
+        long bytesEstimados() {
+            long cabecalhos = 8L * 16;
+            return cabecalhos
+                    + 8L * ids.length
+                    + chaves.length + nomes.length + documentos.length
+                    + 4L * (chaveOffsets.length + nomeOffsets.length + documentoOffsets.length + ordemDocumento.length);
+        }
+
+        private Entrada entrada(int posicao) {
+            return new Entrada(ids[posicao],
+                    new String(nomes, nomeOffsets[posicao], nomeOffsets[posicao + 1] - nomeOffsets[posicao], StandardCharsets.UTF_8),
+                    Arrays.copyOfRange(chaves, chaveOffsets[posicao], chaveOffsets[posicao + 1]),
+                    Arrays.copyOfRange(documentos, documentoOffsets[posicao], documentoOffsets[posicao + 1]),
+                    false);
+        }
+
+        private static int limiteInferior(byte[] dados, int[] offsets, int[] ordem, byte[] prefixo) {
+            int baixo = 0;
+            int alto = offsets.length - 1;
+            while (baixo < alto) {
+                int meio = (baixo + alto) >>> 1;
+                int posicao = ordem != null ? ordem[meio] : meio;
+                if (Arrays.compareUnsigned(dados, offsets[posicao], offsets[posicao + 1], prefixo, 0, prefixo.length) < 0) {
+                    baixo = meio + 1;
+                } else {
+                    alto = meio;
+                }
+            }
+            return baixo;
+        }
+
+        private static int copiar(byte[] origem, byte[] destino, int offset) {
+            System.arraycopy(origem, 0, destino, offset, origem.length);
+            return offset + origem.length;
+        }
+    }
+
+    public record Sugestao(Long id, String nome, String identificadorFiscal) {}
+
+    public record Estatisticas(boolean pronto, int registros, int pendentes, long bytesEstimados) {}
+}
@@ -2,89 +2,252 @@ package com.desafio.backend.domain.service;
 
 import com.desafio.backend.domain.exception.BusinessException;
 import com.desafio.backend.domain.exception.ResourceNotFoundException;
+import com.desafio.backend.domain.exception.VersaoDesatualizadaException;
 import com.desafio.backend.domain.model.*;
 import com.desafio.backend.domain.repository.EmpresaRepository;
+import com.desafio.backend.domain.repository.FornecedorCursor;
 import com.desafio.backend.domain.repository.FornecedorRepository;
+import com.desafio.backend.domain.repository.FornecedorResumo;
 import com.desafio.backend.domain.repository.FornecedorSpecification;
-import jakarta.transaction.Transactional;
+import com.desafio.backend.domain.repository.ListagemRepository;
+import com.desafio.backend.domain.repository.Localidade;
+import com.desafio.backend.domain.repository.Versao;
+import com.desafio.backend.domain.repository.VersaoRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "servico", histogram = true)
 public class FornecedorService {
 
+    static final String MENOR_NO_PARANA = "Empresas do Paraná não podem cadastrar fornecedores pessoa física menores de idade.";
+
     private final FornecedorRepository fornecedorRepository;
     private final EmpresaRepository empresaRepository;
     private final CepService cepService;
+    private final TransactionTemplate transactionTemplate;
+    private final FornecedorPrefixIndex prefixIndex;
+    private final EntidadeCache entidadeCache;
+    private final VersaoRepository versaoRepository;
+    private final ListagemRepository listagemRepository;
+    private final ExclusaoService exclusaoService;
+
+    @Transactional(readOnly = true)
+    public Page<FornecedorResumo> listarTodos(String nomeFilter, String identificadorFilter, Pageable pageable) {
+        Specification<Fornecedor> spec = FornecedorSpecification.filterBy(nomeFilter, identificadorFilter);
+        return listagemRepository.listar(Fornecedor.class, FornecedorResumo.class, FornecedorResumo::colunas, spec, pageable);
+    }
 
-    public Page<Fornecedor> listarTodos(String nomeFilter, String identificadorFilter, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Window<FornecedorResumo> listarPorCursor(String nomeFilter, String identificadorFilter, FornecedorCursor after, int size) {
         Specification<Fornecedor> spec = FornecedorSpecification.filterBy(nomeFilter, identificadorFilter);
-        return fornecedorRepository.findAll(spec, pageable);
+        if (after != null) {
+            spec = spec.and(after.depois());
+        }
+        // uma linha a mais só para saber se existe próxima página
+        List<FornecedorResumo> linhas = listagemRepository.listar(Fornecedor.class, FornecedorResumo.class,
+                FornecedorResumo::colunas, spec, FornecedorCursor.ORDENACAO, size + 1);
+        List<FornecedorResumo> pagina = linhas.subList(0, Math.min(size, linhas.size()));
+        return Window.from(pagina, indice -> FornecedorCursor.of(pagina.get(indice)).toScrollPosition(), linhas.size() > size);
+    }
+
+    /**
+     * Ids das empresas de cada fornecedor em uma única consulta. Inicializar a coleção de cada um faria uma
+     * consulta por empresa quando a coleção está no cache de segundo nível e as empresas não.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Set<Long>> buscarEmpresaIds(Collection<Long> fornecedorIds) {
+        if (fornecedorIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, Set<Long>> empresaIds = new HashMap<>();
+        for (Object[] par : fornecedorRepository.findEmpresaIdsByFornecedorIdIn(fornecedorIds)) {
+            empresaIds.computeIfAbsent(((Number) par[0]).longValue(), id -> new HashSet<>())
+                    .add(((Number) par[1]).longValue());
+        }
+        return empresaIds;
+    }
+
+    @Transactional(readOnly = true)
+    public Versao versaoDaListagem(String nomeFilter, String identificadorFilter) {
+        return versaoRepository.buscar(Fornecedor.class, FornecedorSpecification.filterBy(nomeFilter, identificadorFilter));
+    }
+
+    @Transactional(readOnly = true)
+    public Versao versao(Long id) {
+        Versao versao = versaoRepository.buscar(Fornecedor.class, id);
+        if (versao.total() == 0) {
+            throw new ResourceNotFoundException("Fornecedor não encontrado com ID: " + id);
+        }
+        return versao;
     }
 
+    @Transactional(readOnly = true)
     public Fornecedor buscarPorId(Long id) {
-        return fornecedorRepository.findById(id)
+        Fornecedor fornecedor = fornecedorRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Fornecedor não encontrado com ID: " + id));
+        // vindo do cache de segundo nível, a coleção não passa pelo entity graph
+        Hibernate.initialize(fornecedor.getEmpresas());
+        return fornecedor;
     }
 
-    @Transactional
     public Fornecedor salvar(Fornecedor fornecedor, Set<Long> empresaIds) {
-        cepService.consultarCep(fornecedor.getCep())
-                .orElseThrow(() -> new BusinessException("CEP inválido ou não encontrado: " + fornecedor.getCep()));
+        return salvar(fornecedor, empresaIds, null);
+    }
 
-        validateUniqueness(fornecedor);
-
-        Set<Empresa> resolvedEmpresas = resolveEmpresas(empresaIds);
+    /**
+     * Com {@code versaoEsperada}, grava só se o {@code updatedAt} do fornecedor ainda for esse; a verificação
+     * trava a linha na mesma transação da gravação, então de duas atualizações sobre a mesma versão só uma passa.
+     */
+    public Fornecedor salvar(Fornecedor fornecedor, Set<Long> empresaIds, OffsetDateTime versaoEsperada) {
+        CepService.localizar(fornecedor, cepService.consultarCep(fornecedor.getCep())
+                .orElseThrow(() -> new BusinessException("CEP inválido ou não encontrado: " + fornecedor.getCep())));
 
         if (fornecedor instanceof FornecedorPessoaFisica pf) {
-            validateParanaAgeRule(pf, resolvedEmpresas);
+            validateParanaAgeRule(pf, empresaIds);
+        }
+
+        Set<Long> alteradas = new HashSet<>();
+        Fornecedor salvo = transactionTemplate.execute(status -> persistir(fornecedor, empresaIds, versaoEsperada, alteradas));
+        entidadeCache.invalidarAssociacoes(alteradas, List.of());
+        prefixIndex.registrar(salvo);
+        return salvo;
+    }
+
+    private Fornecedor persistir(Fornecedor fornecedor, Set<Long> empresaIds, OffsetDateTime versaoEsperada,
+                                 Set<Long> alteradas) {
+        if (versaoEsperada != null
+                && fornecedorRepository.marcarAlteracaoSeNaVersao(fornecedor.getId(), versaoEsperada, OffsetDateTime.now()) == 0) {
+            throw new VersaoDesatualizadaException("Fornecedor " + fornecedor.getId() + " foi alterado por outra requisição.");
         }
+        Set<Long> anteriores = fornecedor.getId() == null ? Set.of() : buscarEmpresaIds(fornecedor.getId());
+        Set<Empresa> resolvedEmpresas = resolveEmpresas(empresaIds);
 
         fornecedor.setEmpresas(resolvedEmpresas);
+        fornecedor.marcarAlteracao();
 
-        Fornecedor savedFornecedor = fornecedorRepository.save(fornecedor);
+        Fornecedor savedFornecedor = fornecedorRepository.saveAndFlush(fornecedor);
+        savedFornecedor.getEmpresas().retainAll(resolvedEmpresas);
+        savedFornecedor.getEmpresas().addAll(resolvedEmpresas);
 
-        updateEmpresaFornecedores(savedFornecedor, resolvedEmpresas);
+        alteradas.addAll(updateEmpresaFornecedores(savedFornecedor, anteriores, resolvedEmpresas));
 
         return savedFornecedor;
     }
 
-    @Transactional
     public void deletar(Long id) {
-        Fornecedor fornecedor = buscarPorId(id);
+        if (exclusaoService.excluirFornecedores(List.of(id)) == 0) {
+            throw new ResourceNotFoundException("Fornecedor não encontrado com ID: " + id);
+        }
+    }
 
-        new HashSet<>(fornecedor.getEmpresas()).forEach(empresa -> {
-            empresa.getFornecedores().remove(fornecedor);
+    /**
+     * Exclui os fornecedores que atendem ao filtro. Sem nenhum filtro seria a tabela inteira, então ao
+     * menos um é obrigatório.
+     */
+    public long deletarPorFiltro(String nomeFilter, String identificadorFilter) {
+        if (!StringUtils.hasText(nomeFilter) && !StringUtils.hasText(identificadorFilter)) {
+            throw new BusinessException("Informe ao menos um filtro (nome ou identificadorFiscal) para excluir fornecedores em massa.");
+        }
+        return exclusaoService.excluirFornecedores(FornecedorSpecification.filterBy(nomeFilter, identificadorFilter));
+    }
+
+    public long deletarTodos(Set<Long> ids) {
+        exigirIds(ids);
+        return exclusaoService.excluirFornecedores(ids);
+    }
+
+    public void associarEmpresas(Long id, Set<Long> empresaIds) {
+        exigirIds(empresaIds);
+        if (!fornecedorRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Fornecedor não encontrado com ID: " + id);
+        }
+        Set<Long> encontradas = empresaRepository.findExistingIds(empresaIds);
+        if (encontradas.size() != empresaIds.size()) {
+            throw new ResourceNotFoundException("Uma ou mais empresas não encontradas com IDs: " + diferenca(empresaIds, encontradas));
+        }
+        if (fornecedorRepository.existsMenorDeIdade(List.of(id), limiteMaioridade())
+                && algumaNoParana(empresaRepository.findLocalidadesNoParanaOuPendentes(empresaIds), cepService)) {
+            throw new BusinessException(MENOR_NO_PARANA);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (fornecedorRepository.insertEmpresas(id, empresaIds) > 0) {
+                marcarAlteracao(empresaIds, List.of(id));
+            }
         });
-        fornecedor.getEmpresas().clear();
+        entidadeCache.invalidarAssociacoes(empresaIds, List.of(id));
+    }
 
-        fornecedorRepository.delete(fornecedor);
+    public void desassociarEmpresas(Long id, Set<Long> empresaIds) {
+        exigirIds(empresaIds);
+        if (!fornecedorRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Fornecedor não encontrado com ID: " + id);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (fornecedorRepository.deleteEmpresas(id, empresaIds) > 0) {
+                marcarAlteracao(empresaIds, List.of(id));
+            }
+        });
+        entidadeCache.invalidarAssociacoes(empresaIds, List.of(id));
     }
 
-    private void validateUniqueness(Fornecedor fornecedor) {
-        fornecedorRepository.findByIdentificadorFiscal(fornecedor.getIdentificadorFiscal())
-                .filter(existing -> !existing.getId().equals(fornecedor.getId()))
-                .ifPresent(e -> { throw new BusinessException("Identificador Fiscal (CNPJ/CPF) já cadastrado."); });
+    /**
+     * Atualiza o {@code updatedAt} dos dois lados de associações alteradas por SQL nativo com um update
+     * cada, sem carregar as entidades; o update em massa já invalida as regiões de entidade no cache.
+     */
+    private void marcarAlteracao(Collection<Long> empresaIds, Collection<Long> fornecedorIds) {
+        OffsetDateTime agora = OffsetDateTime.now();
+        empresaRepository.marcarAlteracao(empresaIds, agora);
+        fornecedorRepository.marcarAlteracao(fornecedorIds, agora);
+    }
 
-        fornecedorRepository.findByEmail(fornecedor.getEmail())
-                .filter(existing -> !existing.getId().equals(fornecedor.getId()))
-                .ifPresent(e -> { throw new BusinessException("E-mail já cadastrado."); });
+    @Transactional(readOnly = true)
+    public List<FornecedorPrefixIndex.Sugestao> sugerir(String termo, int limite) {
+        if (prefixIndex.isPronto()) {
+            return prefixIndex.sugerir(termo, limite);
+        }
+        if (termo == null || termo.isBlank()) {
+            return List.of();
+        }
+        String limpo = termo.strip();
+        Specification<Fornecedor> spec = Character.isDigit(limpo.charAt(0))
+                ? FornecedorSpecification.filterBy(null, limpo.replaceAll("[.\\-/\\s]", ""))
+                : FornecedorSpecification.filterBy(limpo, null);
+        return fornecedorRepository.findAll(spec, PageRequest.of(0, limite, Sort.by("nome", "id"))).stream()
+                .map(f -> new FornecedorPrefixIndex.Sugestao(f.getId(), f.getNome(), f.getIdentificadorFiscal()))
+                .toList();
     }
 
     private Set<Empresa> resolveEmpresas(Set<Long> empresaIds) {
         if (empresaIds == null || empresaIds.isEmpty()) {
             return new HashSet<>();
         }
-        Set<Empresa> empresas = new HashSet<>(empresaRepository.findAllById(empresaIds));
+        Set<Empresa> empresas = new HashSet<>(entidadeCache.buscarTodos(Empresa.class, empresaIds));
         if (empresas.size() != empresaIds.size()) {
             Set<Long> foundIds = empresas.stream().map(Empresa::getId).collect(Collectors.toSet());
             empresaIds.removeAll(foundIds);
@@ -93,29 +256,97 @@ public class FornecedorService {
         return empresas;
     }
 
-    private void updateEmpresaFornecedores(Fornecedor fornecedor, Set<Empresa> currentEmpresas) {
-        List<Empresa> oldCompanies = empresaRepository.findAllById(
-            fornecedorRepository.findById(fornecedor.getId())
-                               .map(f -> f.getEmpresas().stream().map(Empresa::getId).collect(Collectors.toSet()))
-                               .orElse(new HashSet<>())
-        );
+    private Set<Long> buscarEmpresaIds(Long fornecedorId) {
+        return fornecedorRepository.findEmpresaIdsByFornecedorIdIn(List.of(fornecedorId)).stream()
+                .map(par -> ((Number) par[1]).longValue())
+                .collect(Collectors.toSet());
+    }
 
-        oldCompanies.stream()
-            .filter(e -> !currentEmpresas.contains(e))
-            .forEach(e -> e.getFornecedores().remove(fornecedor));
+    /**
+     * Atualiza o lado dono ({@code Empresa.fornecedores}) pela coleção só quando ela já está carregada;
+     * para as demais empresas grava direto na tabela de associação, sem carregar a coleção de cada uma.
+     * Devolve as empresas alteradas, cujas coleções em cache precisam ser invalidadas depois do commit.
+     */
+    private Set<Long> updateEmpresaFornecedores(Fornecedor fornecedor, Set<Long> anteriores, Set<Empresa> currentEmpresas) {
+        Set<Long> atuais = currentEmpresas.stream().map(Empresa::getId).collect(Collectors.toSet());
+        Set<Long> removerNoBanco = new HashSet<>();
+        Set<Long> inserirNoBanco = new HashSet<>();
+        Set<Long> alteradas = new HashSet<>();
 
-        currentEmpresas.forEach(e -> e.getFornecedores().add(fornecedor));
+        entidadeCache.buscarTodos(Empresa.class, diferenca(anteriores, atuais)).forEach(e -> {
+            if (Hibernate.isInitialized(e.getFornecedores())) {
+                e.getFornecedores().remove(fornecedor);
+            } else {
+                removerNoBanco.add(e.getId());
+            }
+            e.marcarAlteracao();
+            alteradas.add(e.getId());
+        });
+
+        currentEmpresas.stream()
+            .filter(e -> !anteriores.contains(e.getId()))
+            .forEach(e -> {
+                if (Hibernate.isInitialized(e.getFornecedores())) {
+                    e.getFornecedores().add(fornecedor);
+                } else {
+                    inserirNoBanco.add(e.getId());
+                }
+                e.marcarAlteracao();
+                alteradas.add(e.getId());
+            });
+
+        if (!removerNoBanco.isEmpty()) {
+            fornecedorRepository.deleteEmpresas(fornecedor.getId(), removerNoBanco);
+        }
+        if (!inserirNoBanco.isEmpty()) {
+            fornecedorRepository.insertEmpresas(fornecedor.getId(), inserirNoBanco);
+        }
+        return alteradas;
     }
 
-    private void validateParanaAgeRule(FornecedorPessoaFisica fornecedorPF, Set<Empresa> empresas) {
+    private void validateParanaAgeRule(FornecedorPessoaFisica fornecedorPF, Set<Long> empresaIds) {
+        if (empresaIds == null || empresaIds.isEmpty()) {
+            return;
+        }
         Integer age = fornecedorPF.getAge();
         if (age == null || age < 18) {
-            boolean associatedWithParana = empresas.stream()
-                    .anyMatch(empresa -> cepService.isParana(empresa.getCep()));
+            boolean associatedWithParana = algumaNoParana(empresaRepository.findLocalidadesNoParanaOuPendentes(empresaIds), cepService);
 
             if (associatedWithParana) {
-                throw new BusinessException("Empresas do Paraná não podem cadastrar fornecedores pessoa física menores de idade.");
+                throw new BusinessException(MENOR_NO_PARANA);
+            }
+        }
+    }
+
+    /**
+     * Decide pela UF gravada; só os registros ainda não preenchidos consultam o CEP.
+     */
+    static boolean algumaNoParana(List<Localidade> localidades, CepService cepService) {
+        List<String> pendentes = new ArrayList<>();
+        for (Localidade localidade : localidades) {
+            if (localidade.noParana()) {
+                return true;
+            }
+            if (localidade.pendente()) {
+                pendentes.add(localidade.cep());
             }
         }
+        return !pendentes.isEmpty() && cepService.anyParana(pendentes);
+    }
+
+    static LocalDate limiteMaioridade() {
+        return LocalDate.now().minusYears(18);
+    }
+
+    static void exigirIds(Set<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.stream().anyMatch(Objects::isNull)) {
+            throw new BusinessException("Informe ao menos um ID válido.");
+        }
+    }
+
+    static Set<Long> diferenca(Set<Long> ids, Set<Long> removidos) {
+        Set<Long> diferenca = new HashSet<>(ids);
+        diferenca.removeAll(removidos);
+        return diferenca;
     }
 }
@@ -0,0 +1,250 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.api.dto.CepResponseDTO;
+import com.desafio.backend.domain.exception.RestricaoUnica;
+import com.desafio.backend.domain.model.BaseEntity;
+import com.desafio.backend.domain.model.Empresa;
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.model.Localizavel;
+import com.desafio.backend.domain.repository.EmpresaRepository;
+import com.desafio.backend.domain.repository.FornecedorRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Importação em massa de fornecedores e empresas. As linhas são consumidas em lotes de tamanho fixo:
+ * cada lote verifica unicidade com uma consulta por coluna, resolve os CEPs distintos de uma vez
+ * (fora de transação) e grava tudo em uma única transação com inserts em batch. Se o lote falhar na
+ * gravação, os registros são regravados um a um para isolar os que violam alguma restrição.
+ * A memória usada não depende do tamanho do arquivo.
+ */
+@Service
+public class ImportacaoService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportacaoService.class);
+
+    private final FornecedorRepository fornecedorRepository;
+    private final EmpresaRepository empresaRepository;
+    private final CepService cepService;
+    private final FornecedorPrefixIndex prefixIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final int chunkSize;
+    private final int maxErros;
+
+    public ImportacaoService(FornecedorRepository fornecedorRepository,
+                             EmpresaRepository empresaRepository,
+                             CepService cepService,
+                             FornecedorPrefixIndex prefixIndex,
+                             TransactionTemplate transactionTemplate,
+                             EntityManager entityManager,
+                             @Value("${importacao.chunk-size:500}") int chunkSize,
+                             @Value("${importacao.max-erros:1000}") int maxErros) {
+        this.fornecedorRepository = fornecedorRepository;
+        this.empresaRepository = empresaRepository;
+        this.cepService = cepService;
+        this.prefixIndex = prefixIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.chunkSize = chunkSize;
+        this.maxErros = maxErros;
+    }
+
+    public Resultado importarFornecedores(Iterator<Linha<Fornecedor>> linhas) {
+        return importar(linhas, this::descartarFornecedoresDuplicados, prefixIndex::registrar);
+    }
+
+    public Resultado importarEmpresas(Iterator<Linha<Empresa>> linhas) {
+        return importar(linhas, this::descartarEmpresasDuplicadas, empresa -> {});
+    }
+
+    private <E extends BaseEntity & Localizavel> Resultado importar(Iterator<Linha<E>> linhas,
+                                                                    BiFunction<List<Linha<E>>, Relatorio, List<Linha<E>>> unicos,
+                                                                    Consumer<E> aposGravar) {
+        Relatorio relatorio = new Relatorio(maxErros);
+        List<Linha<E>> lote = new ArrayList<>(chunkSize);
+        while (linhas.hasNext()) {
+            Linha<E> linha = linhas.next();
+            relatorio.processadas++;
+            if (linha.erro() != null) {
+                relatorio.rejeitar(linha.numero(), linha.erro());
+                continue;
+            }
+            lote.add(linha);
+            if (lote.size() == chunkSize) {
+                processarLote(lote, unicos, aposGravar, relatorio);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            processarLote(lote, unicos, aposGravar, relatorio);
+        }
+        log.info("Importação concluída: {} processadas, {} importadas, {} rejeitadas.",
+                relatorio.processadas, relatorio.importadas, relatorio.rejeitadas);
+        return relatorio.resultado();
+    }
+
+    private <E extends BaseEntity & Localizavel> void processarLote(List<Linha<E>> lote,
+                                                                    BiFunction<List<Linha<E>>, Relatorio, List<Linha<E>>> unicos,
+                                                                    Consumer<E> aposGravar,
+                                                                    Relatorio relatorio) {
+        List<Linha<E>> validas = comCepValido(unicos.apply(lote, relatorio), relatorio);
+        if (validas.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                validas.forEach(linha -> entityManager.persist(linha.entidade()));
+                entityManager.flush();
+                entityManager.clear();
+            });
+            validas.forEach(linha -> {
+                relatorio.importadas++;
+                aposGravar.accept(linha.entidade());
+            });
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar lote de {} registros; gravando individualmente: {}", validas.size(), e.getMessage());
+            validas.forEach(linha -> gravarIndividualmente(linha, aposGravar, relatorio));
+        }
+    }
+
+    private <E extends BaseEntity> void gravarIndividualmente(Linha<E> linha, Consumer<E> aposGravar, Relatorio relatorio) {
+        E entidade = linha.entidade();
+        entidade.setId(null);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.persist(entidade);
+                entityManager.flush();
+            });
+            relatorio.importadas++;
+            aposGravar.accept(entidade);
+        } catch (RuntimeException e) {
+            relatorio.rejeitar(linha.numero(), RestricaoUnica.violadaPor(e)
+                    .map(RestricaoUnica::getMensagem)
+                    .orElseGet(() -> "Não foi possível gravar o registro: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+        }
+    }
+
+    private <E extends BaseEntity & Localizavel> List<Linha<E>> comCepValido(List<Linha<E>> lote, Relatorio relatorio) {
+        if (lote.isEmpty()) {
+            return lote;
+        }
+        Set<String> ceps = new HashSet<>();
+        lote.forEach(linha -> ceps.add(linha.entidade().getCep()));
+        Map<String, CepResponseDTO> resolvidos = cepService.resolveAll(ceps);
+
+        List<Linha<E>> validas = new ArrayList<>(lote.size());
+        for (Linha<E> linha : lote) {
+            String valor = linha.entidade().getCep();
+            CepResponseDTO endereco = resolvidos.get(CepService.limparCep(valor));
+            if (endereco != null) {
+                CepService.localizar(linha.entidade(), endereco);
+                validas.add(linha);
+            } else {
+                relatorio.rejeitar(linha.numero(), "CEP inválido ou não encontrado: " + valor);
+            }
+        }
+        return validas;
+    }
+
+    private List<Linha<Fornecedor>> descartarFornecedoresDuplicados(List<Linha<Fornecedor>> lote, Relatorio relatorio) {
+        Set<String> identificadores = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        lote.forEach(linha -> {
+            identificadores.add(linha.entidade().getIdentificadorFiscal());
+            emails.add(linha.entidade().getEmail());
+        });
+        Set<String> identificadoresExistentes = fornecedorRepository.findExistingIdentificadoresFiscais(identificadores);
+        Set<String> emailsExistentes = fornecedorRepository.findExistingEmails(emails);
+
+        Set<String> identificadoresNoLote = new HashSet<>();
+        Set<String> emailsNoLote = new HashSet<>();
+        List<Linha<Fornecedor>> unicos = new ArrayList<>(lote.size());
+        for (Linha<Fornecedor> linha : lote) {
+            Fornecedor fornecedor = linha.entidade();
+            if (identificadoresExistentes.contains(fornecedor.getIdentificadorFiscal())
+                    || !identificadoresNoLote.add(fornecedor.getIdentificadorFiscal())) {
+                relatorio.rejeitar(linha.numero(), "Identificador Fiscal (CNPJ/CPF) já cadastrado.");
+            } else if (emailsExistentes.contains(fornecedor.getEmail()) || !emailsNoLote.add(fornecedor.getEmail())) {
+                relatorio.rejeitar(linha.numero(), "E-mail já cadastrado.");
+            } else {
+                unicos.add(linha);
+            }
+        }
+        return unicos;
+    }
+
+    private List<Linha<Empresa>> descartarEmpresasDuplicadas(List<Linha<Empresa>> lote, Relatorio relatorio) {
+        Set<String> cnpjs = new HashSet<>();
+        lote.forEach(linha -> cnpjs.add(linha.entidade().getCnpj()));
+        Set<String> existentes = empresaRepository.findExistingCnpjs(cnpjs);
+
+        Set<String> noLote = new HashSet<>();
+        List<Linha<Empresa>> unicas = new ArrayList<>(lote.size());
+        for (Linha<Empresa> linha : lote) {
+            String cnpj = linha.entidade().getCnpj();
+            if (existentes.contains(cnpj) || !noLote.add(cnpj)) {
+                relatorio.rejeitar(linha.numero(), "CNPJ já cadastrado: " + cnpj);
+            } else {
+                unicas.add(linha);
+            }
+        }
+        return unicas;
+    }
+
+    private static final class Relatorio {
+
+        private final int maxErros;
+        private final List<Erro> erros = new ArrayList<>();
+        private long processadas;
+        private long importadas;
+        private long rejeitadas;
+
+        private Relatorio(int maxErros) {
+            this.maxErros = maxErros;
+        }
+
+        private void rejeitar(long registro, String mensagem) {
+            rejeitadas++;
+            if (erros.size() < maxErros) {
+                erros.add(new Erro(registro, mensagem));
+            }
+        }
+
+        private Resultado resultado() {
+            return new Resultado(processadas, importadas, rejeitadas, erros, rejeitadas > erros.size());
+        }
+    }
+
+    /**
+     * Registro lido do arquivo, numerado a partir de 1, já convertido para entidade ou com o motivo da rejeição.
+     */
+    public record Linha<E>(long numero, E entidade, String erro) {
+
+        public static <E> Linha<E> valida(long numero, E entidade) {
+            return new Linha<>(numero, entidade, null);
+        }
+
+        public static <E> Linha<E> invalida(long numero, String erro) {
+            return new Linha<>(numero, null, erro);
+        }
+    }
+
+    public record Erro(long registro, String mensagem) {}
+
+    public record Resultado(long processadas, long importadas, long rejeitadas, List<Erro> erros, boolean errosTruncados) {}
+}
@@ -0,0 +1,145 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.api.dto.CepResponseDTO;
+import com.desafio.backend.domain.repository.EmpresaRepository;
+import com.desafio.backend.domain.repository.FornecedorRepository;
+import com.desafio.backend.domain.repository.Localidade;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+
+/**
+ * Preenche a UF e a cidade dos registros gravados antes dessas colunas existirem. Percorre empresas e
+ * fornecedores em lotes pelo id, resolve os CEPs distintos de cada lote de uma vez e grava com um
+ * update por cidade. Não guarda progresso: a próxima execução retoma pelos registros que continuam
+ * sem UF, inclusive os de CEPs que não puderam ser resolvidos.
+ */
+@Component
+public class LocalidadeBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalidadeBackfill.class);
+
+    private final EmpresaRepository empresaRepository;
+    private final FornecedorRepository fornecedorRepository;
+    private final CepService cepService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean habilitado;
+    private final int tamanhoLote;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "localidade-backfill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LocalidadeBackfill(EmpresaRepository empresaRepository,
+                              FornecedorRepository fornecedorRepository,
+                              CepService cepService,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${localidade.backfill.enabled:true}") boolean habilitado,
+                              @Value("${localidade.backfill.batch-size:200}") int tamanhoLote) {
+        this.empresaRepository = empresaRepository;
+        this.fornecedorRepository = fornecedorRepository;
+        this.cepService = cepService;
+        this.transactionTemplate = transactionTemplate;
+        this.habilitado = habilitado;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void agendar() {
+        if (habilitado) {
+            executor.execute(() -> {
+                try {
+                    preencher();
+                } catch (Exception e) {
+                    log.warn("Preenchimento de UF e cidade interrompido: {}", e.getMessage());
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    public Preenchimento preencher() {
+        int empresas = preencher("empresas", empresaRepository::findLocalidadesPendentesAfter,
+                empresaRepository::preencherLocalidade);
+        int fornecedores = preencher("fornecedores", fornecedorRepository::findLocalidadesPendentesAfter,
+                fornecedorRepository::preencherLocalidade);
+        return new Preenchimento(empresas, fornecedores);
+    }
+
+    private int preencher(String tabela, BiFunction<Long, Pageable, List<Localidade>> pendentes, Gravacao gravacao) {
+        long inicio = System.nanoTime();
+        int preenchidos = 0;
+        int semEndereco = 0;
+        long ultimoId = 0;
+        List<Localidade> lote;
+        do {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            lote = pendentes.apply(ultimoId, PageRequest.of(0, tamanhoLote));
+            if (lote.isEmpty()) {
+                break;
+            }
+            ultimoId = lote.get(lote.size() - 1).id();
+
+            Map<String, CepResponseDTO> resolvidos = cepService.resolveAll(lote.stream().map(Localidade::cep).toList());
+            Map<Local, List<Long>> porLocal = new HashMap<>();
+            for (Localidade localidade : lote) {
+                CepResponseDTO endereco = resolvidos.get(CepService.limparCep(localidade.cep()));
+                if (endereco == null) {
+                    semEndereco++;
+                } else {
+                    porLocal.computeIfAbsent(new Local(CepService.uf(endereco), endereco.localidade()), local -> new ArrayList<>())
+                            .add(localidade.id());
+                }
+            }
+            if (!porLocal.isEmpty()) {
+                preenchidos += transactionTemplate.execute(status -> {
+                    int atualizados = 0;
+                    for (Map.Entry<Local, List<Long>> grupo : porLocal.entrySet()) {
+                        atualizados += gravacao.preencher(grupo.getValue(), grupo.getKey().uf(), grupo.getKey().cidade());
+                    }
+                    return atualizados;
+                });
+            }
+        } while (lote.size() == tamanhoLote);
+
+        if (preenchidos > 0 || semEndereco > 0) {
+            log.info("UF e cidade preenchidas em {} {} em {} ms; {} continuam pendentes por CEP não resolvido.",
+                    preenchidos, tabela, (System.nanoTime() - inicio) / 1_000_000, semEndereco);
+        }
+        return preenchidos;
+    }
+
+    public record Preenchimento(int empresas, int fornecedores) {
+    }
+
+    private record Local(String uf, String cidade) {
+    }
+
+    @FunctionalInterface
+    private interface Gravacao {
+        int preencher(Collection<Long> ids, String uf, String cidade);
+    }
+}
@@ -0,0 +1,323 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.api.dto.CepResponseDTO;
+import com.desafio.backend.domain.exception.CepIndisponivelException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cliente HTTP do ViaCEP com timeouts, limite de chamadas simultâneas (bulkhead), circuit breaker
+ * e, opcionalmente, uma segunda requisição (hedge) disparada quando a primeira passa do p95 recente.
+ * Retorna vazio para CEPs inexistentes e lança {@link CepIndisponivelException} quando o ViaCEP
+ * não pôde responder.
+ */
+@Component
+public class ViaCepClient implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ViaCepClient.class);
+    private static final int AMOSTRAS_MINIMAS_HEDGE = 20;
+
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final Duration readTimeout;
+    private final Semaphore bulkhead;
+    private final int maxConcurrent;
+    private final Duration bulkheadMaxWait;
+    private final CepCircuitBreaker circuitBreaker;
+    private final boolean hedgeEnabled;
+    private final Duration hedgeMinDelay;
+    private final Executor hedgeExecutor;
+    private final JanelaDeLatencias latencias = new JanelaDeLatencias(256);
+
+    private final AtomicLong chamadas = new AtomicLong();
+    private final AtomicLong falhas = new AtomicLong();
+    private final AtomicLong rejeitadasPeloBulkhead = new AtomicLong();
+    private final AtomicLong rejeitadasPeloCircuito = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+
+    public ViaCepClient(RestTemplateBuilder builder,
+                        @Value("${cep.api.url:https://viacep.com.br/ws}") String baseUrl,
+                        @Value("${cep.client.connect-timeout:PT1S}") Duration connectTimeout,
+                        @Value("${cep.client.read-timeout:PT2S}") Duration readTimeout,
+                        @Value("${cep.client.bulkhead.max-concurrent:20}") int maxConcurrent,
+                        @Value("${cep.client.bulkhead.max-wait:PT0.1S}") Duration bulkheadMaxWait,
+                        @Value("${cep.client.circuit.failure-threshold:5}") int failureThreshold,
+                        @Value("${cep.client.circuit.open-duration:PT30S}") Duration openDuration,
+                        @Value("${cep.client.hedge.enabled:false}") boolean hedgeEnabled,
+                        @Value("${cep.client.hedge.min-delay:PT0.05S}") Duration hedgeMinDelay,
+                        @Qualifier("cepClientExecutor") Executor hedgeExecutor) {
+        this.restTemplate = builder
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .build();
+        this.baseUrl = baseUrl;
+        this.readTimeout = readTimeout;
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.maxConcurrent = maxConcurrent;
+        this.bulkheadMaxWait = bulkheadMaxWait;
+        this.circuitBreaker = new CepCircuitBreaker(failureThreshold, openDuration);
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeMinDelay = hedgeMinDelay;
+        this.hedgeExecutor = hedgeExecutor;
+    }
+
+    public Optional<CepResponseDTO> consultar(String cep) {
+        if (!circuitBreaker.permiteChamada()) {
+            rejeitadasPeloCircuito.incrementAndGet();
+            throw new CepIndisponivelException("Circuito aberto para o ViaCEP; consulta do CEP " + cep + " rejeitada.");
+        }
+        return hedgeEnabled ? consultarComHedge(cep) : consultarComPermissao(cep);
+    }
+
+    public Estatisticas estatisticas() {
+        return new Estatisticas(
+                circuitBreaker.estado().name(),
+                circuitBreaker.falhasConsecutivas(),
+                maxConcurrent - bulkhead.availablePermits(),
+                chamadas.get(),
+                falhas.get(),
+                rejeitadasPeloBulkhead.get(),
+                rejeitadasPeloCircuito.get(),
+                hedges.get(),
+                latencias.percentil(0.95) / 1_000_000);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cep.viacep.circuito.aberto", circuitBreaker, circuito -> circuito.estado() == CepCircuitBreaker.Estado.FECHADO ? 0 : 1)
+                .description("1 quando o circuito do ViaCEP está aberto ou meio aberto")
+                .register(registry);
+        Gauge.builder("cep.viacep.chamadas.em.curso", bulkhead, permissoes -> maxConcurrent - permissoes.availablePermits())
+                .register(registry);
+        FunctionCounter.builder("cep.viacep.chamadas", chamadas, AtomicLong::get).register(registry);
+        FunctionCounter.builder("cep.viacep.falhas", falhas, AtomicLong::get).register(registry);
+        FunctionCounter.builder("cep.viacep.rejeitadas", rejeitadasPeloBulkhead, AtomicLong::get)
+                .tag("motivo", "bulkhead").register(registry);
+        FunctionCounter.builder("cep.viacep.rejeitadas", rejeitadasPeloCircuito, AtomicLong::get)
+                .tag("motivo", "circuito").register(registry);
+        FunctionCounter.builder("cep.viacep.hedges", hedges, AtomicLong::get).register(registry);
+    }
+
+    /**
+     * Cada tentativa é um {@link Future} próprio, então {@code cancel(true)} interrompe a requisição
+     * perdedora e devolve a permissão do bulkhead na hora. O hedge passa pelo circuit breaker: com o
+     * circuito meio aberto, a chamada de teste é a única permitida. Se o executor recusar o hedge, a
+     * consulta segue só com a primeira requisição.
+     */
+    private Optional<CepResponseDTO> consultarComHedge(String cep) {
+        CompletionService<Optional<CepResponseDTO>> tentativas = new ExecutorCompletionService<>(hedgeExecutor);
+        List<Future<Optional<CepResponseDTO>>> emCurso = new ArrayList<>(2);
+        try {
+            emCurso.add(tentativas.submit(() -> consultarComPermissao(cep)));
+        } catch (RejectedExecutionException e) {
+            circuitBreaker.liberarTentativa();
+            throw new CepIndisponivelException("Sem threads livres para consultar o CEP " + cep + " no ViaCEP.", e);
+        }
+        try {
+            Future<Optional<CepResponseDTO>> concluida = tentativas.poll(atrasoDoHedge().toNanos(), TimeUnit.NANOSECONDS);
+            if (concluida != null) {
+                return resultado(concluida);
+            }
+            if (circuitBreaker.permiteChamada()) {
+                try {
+                    emCurso.add(tentativas.submit(() -> consultarComPermissao(cep)));
+                    hedges.incrementAndGet();
+                    log.debug("Consulta do CEP {} passou do p95; disparando requisição de hedge.", cep);
+                } catch (RejectedExecutionException e) {
+                    circuitBreaker.liberarTentativa();
+                    log.debug("Sem threads livres para o hedge do CEP {}; aguardando a primeira requisição.", cep);
+                }
+            }
+            CepIndisponivelException ultimaFalha = null;
+            for (int restantes = emCurso.size(); restantes > 0; restantes--) {
+                concluida = tentativas.poll(readTimeout.multipliedBy(2).toNanos(), TimeUnit.NANOSECONDS);
+                if (concluida == null) {
+                    throw new CepIndisponivelException("Tempo esgotado ao consultar o CEP " + cep + " no ViaCEP.");
+                }
+                try {
+                    return resultado(concluida);
+                } catch (CepIndisponivelException falha) {
+                    ultimaFalha = falha;
+                }
+            }
+            throw ultimaFalha;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CepIndisponivelException("Consulta ao ViaCEP interrompida.", e);
+        } finally {
+            emCurso.forEach(tentativa -> tentativa.cancel(true));
+        }
+    }
+
+    private Optional<CepResponseDTO> consultarComPermissao(String cep) {
+        boolean permitido;
+        try {
+            permitido = bulkhead.tryAcquire(bulkheadMaxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.liberarTentativa();
+            throw new CepIndisponivelException("Consulta do CEP " + cep + " interrompida.", e);
+        }
+        if (!permitido) {
+            rejeitadasPeloBulkhead.incrementAndGet();
+            circuitBreaker.liberarTentativa();
+            throw new CepIndisponivelException("Limite de consultas simultâneas ao ViaCEP atingido.");
+        }
+        try {
+            return executar(cep);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private Optional<CepResponseDTO> executar(String cep) {
+        String apiUrl = baseUrl + "/{cep}/json/";
+        log.debug("Consultando ViaCEP API para o CEP {}", cep);
+        chamadas.incrementAndGet();
+        long inicio = System.nanoTime();
+
+        try {
+            ResponseEntity<CepResponseDTO> response = restTemplate.getForEntity(apiUrl, CepResponseDTO.class, cep);
+            CepResponseDTO body = response.getBody();
+            if (!response.getStatusCode().is2xxSuccessful() || body == null) {
+                throw new CepIndisponivelException("ViaCEP retornou status " + response.getStatusCode() + " ou corpo vazio para o CEP " + cep + ".");
+            }
+            registrarSucesso(inicio);
+            if (body.hasError()) {
+                log.warn("CEP {} consultado com sucesso, mas API retornou erro (CEP inexistente).", cep);
+                return Optional.empty();
+            }
+            return Optional.of(body);
+        } catch (HttpClientErrorException.NotFound e) {
+            registrarSucesso(inicio);
+            log.warn("ViaCEP API retornou 404 para CEP {}.", cep);
+            return Optional.empty();
+        } catch (HttpClientErrorException.BadRequest e) {
+            registrarSucesso(inicio);
+            log.warn("ViaCEP API retornou 400 Bad Request para CEP {}. Verifique o formato.", cep);
+            return Optional.empty();
+        } catch (RestClientException e) {
+            registrarFalha();
+            throw new CepIndisponivelException("Erro de comunicação com o ViaCEP: " + e.getMessage(), e);
+        } catch (CancellationException e) {
+            // o cliente HTTP do JDK cancela a requisição ao estourar o read timeout
+            registrarFalha();
+            throw new CepIndisponivelException("Tempo esgotado ao consultar o CEP " + cep + " no ViaCEP.", e);
+        } catch (CepIndisponivelException e) {
+            registrarFalha();
+            throw e;
+        }
+    }
+
+    private void registrarSucesso(long inicio) {
+        latencias.registrar(System.nanoTime() - inicio);
+        circuitBreaker.registrarSucesso();
+    }
+
+    private void registrarFalha() {
+        if (Thread.currentThread().isInterrupted()) {
+            // tentativa cancelada pelo hedge; não diz nada sobre a saúde do ViaCEP
+            circuitBreaker.liberarTentativa();
+            return;
+        }
+        falhas.incrementAndGet();
+        circuitBreaker.registrarFalha();
+    }
+
+    private Duration atrasoDoHedge() {
+        if (latencias.amostras() < AMOSTRAS_MINIMAS_HEDGE) {
+            return readTimeout.dividedBy(2);
+        }
+        Duration p95 = Duration.ofNanos(latencias.percentil(0.95));
+        return p95.compareTo(hedgeMinDelay) > 0 ? p95 : hedgeMinDelay;
+    }
+
+    private static <T> T resultado(Future<T> concluida) {
+        try {
+            return concluida.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CepIndisponivelException("Consulta ao ViaCEP interrompida.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CepIndisponivelException indisponivel) {
+                throw indisponivel;
+            }
+            throw new CepIndisponivelException("Erro inesperado ao consultar o ViaCEP: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Últimas latências bem-sucedidas em um buffer circular, sem locks.
+     */
+    static class JanelaDeLatencias {
+
+        private final AtomicLongArray valores;
+        private final AtomicLong registradas = new AtomicLong();
+
+        JanelaDeLatencias(int capacidade) {
+            this.valores = new AtomicLongArray(capacidade);
+        }
+
+        void registrar(long nanos) {
+            long posicao = registradas.getAndIncrement();
+            valores.set((int) (posicao % valores.length()), nanos);
+        }
+
+        int amostras() {
+            return (int) Math.min(registradas.get(), valores.length());
+        }
+
+        long percentil(double percentil) {
+            int amostras = amostras();
+            if (amostras == 0) {
+                return 0;
+            }
+            long[] copia = new long[amostras];
+            for (int i = 0; i < amostras; i++) {
+                copia[i] = valores.get(i);
+            }
+            Arrays.sort(copia);
+            return copia[(int) Math.ceil(percentil * amostras) - 1];
+        }
+    }
+
+    public record Estatisticas(
+            String circuito,
+            int falhasConsecutivas,
+            int chamadasEmCurso,
+            long chamadas,
+            long falhas,
+            long rejeitadasPeloBulkhead,
+            long rejeitadasPeloCircuito,
+            long hedges,
+            long latenciaP95Ms) {}
+}
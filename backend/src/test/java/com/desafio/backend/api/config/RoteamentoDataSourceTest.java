@@ -0,0 +1,146 @@
+package com.desafio.backend.api.config;
+
+import com.desafio.backend.domain.model.Empresa;
+import com.desafio.backend.domain.service.EmpresaService;
+import com.desafio.backend.support.ViaCepStub;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "datasource.replica.url=" + RoteamentoDataSourceTest.REPLICA_URL,
+        "datasource.replica.lag-query=SELECT segundos FROM atraso_replica",
+        "datasource.replica.max-lag=PT5S",
+        "datasource.replica.lag-check-interval=PT0S"
+})
+@AutoConfigureMockMvc
+class RoteamentoDataSourceTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH";
+
+    private static final ViaCepStub viaCep = new ViaCepStub();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("cep.api.url", viaCep::baseUrl);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        viaCep.close();
+    }
+
+    @Autowired
+    private EmpresaService empresaService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("primarioDataSource")
+    private DataSource primarioDataSource;
+
+    private JdbcTemplate primario;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        primario = new JdbcTemplate(primarioDataSource);
+        replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+        // a "replicação" é manual: a réplica recebe só o schema e as linhas que cada teste copiar
+        replica.execute("DROP ALL OBJECTS");
+        primario.queryForList("SCRIPT NODATA", String.class).stream()
+                .filter(comando -> !comando.startsWith("CREATE USER") && !comando.contains("\"hte_"))
+                .forEach(replica::execute);
+        replica.execute("CREATE TABLE atraso_replica(segundos DOUBLE PRECISION)");
+        replica.update("INSERT INTO atraso_replica VALUES (0)");
+    }
+
+    @Test
+    @DisplayName("read-only transactions should read from the replica unless forced to the primary")
+    void leitura_ShouldUseReplica_WhenTransactionIsReadOnly() {
+        inserirEmpresa(List.of(primario), 910001L, "77000000000101");
+
+        assertEquals(0, empresaService.versaoDaListagem(null, "77000000000101", null).total());
+        assertEquals(1, noPrimario(
+                () -> empresaService.versaoDaListagem(null, "77000000000101", null)).total());
+    }
+
+    @Test
+    @DisplayName("read-only transactions should fall back to the primary while the replica lags")
+    void leitura_ShouldUsePrimary_WhenReplicaLags() {
+        inserirEmpresa(List.of(primario), 910002L, "77000000000102");
+
+        replica.update("UPDATE atraso_replica SET segundos = 30");
+        assertEquals(1, empresaService.versaoDaListagem(null, "77000000000102", null).total());
+
+        replica.update("UPDATE atraso_replica SET segundos = 0.5");
+        assertEquals(0, empresaService.versaoDaListagem(null, "77000000000102", null).total());
+    }
+
+    @Test
+    @DisplayName("entities read from the replica should not be put into the second-level cache")
+    void buscarPorId_ShouldNotPopulateCache_WhenReadFromReplica() {
+        inserirEmpresa(List.of(primario, replica), 910003L, "77000000000103");
+
+        Empresa empresa = empresaService.buscarPorId(910003L);
+        assertEquals("77000000000103", empresa.getCnpj());
+        assertFalse(entityManagerFactory.getCache().contains(Empresa.class, 910003L));
+
+        noPrimario(() -> empresaService.buscarPorId(910003L));
+        assertTrue(entityManagerFactory.getCache().contains(Empresa.class, 910003L));
+    }
+
+    @Test
+    @DisplayName("write requests should read from the primary even inside read-only transactions")
+    void atualizar_ShouldReadFromPrimary_WhenRequestWrites() throws Exception {
+        inserirEmpresa(List.of(primario), 910004L, "77000000000104");
+
+        mockMvc.perform(put("/api/empresas/{id}", 910004L).contentType(MediaType.APPLICATION_JSON).content("""
+                        {"cnpj": "77000000000104", "nomeFantasia": "Empresa Atualizada", "cep": "01001000"}
+                        """))
+                .andExpect(status().isOk());
+        assertEquals("Empresa Atualizada", primario.queryForObject(
+                "SELECT nome_fantasia FROM empresas WHERE id = 910004", String.class));
+    }
+
+    private static <T> T noPrimario(Supplier<T> acao) {
+        RoteamentoDataSource.PRIMARIO_FORCADO.set(Boolean.TRUE);
+        try {
+            return acao.get();
+        } finally {
+            RoteamentoDataSource.PRIMARIO_FORCADO.remove();
+        }
+    }
+
+    private void inserirEmpresa(List<JdbcTemplate> bancos, long id, String cnpj) {
+        bancos.forEach(banco -> banco.update("""
+                INSERT INTO empresas (id, cnpj, nome_fantasia, cep, created_at, updated_at)
+                VALUES (?, ?, 'Empresa Replica', '01001000', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                """, id, cnpj));
+    }
+}
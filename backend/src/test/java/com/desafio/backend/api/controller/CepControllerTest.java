@@ -0,0 +1,86 @@
+package com.desafio.backend.api.controller;
+
+import com.desafio.backend.support.ViaCepStub;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CepControllerTest {
+
+    private static final ViaCepStub viaCep = new ViaCepStub();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("cep.api.url", viaCep::baseUrl);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        viaCep.close();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("consultar should return a cacheable address and answer revalidations with 304")
+    void consultar_ShouldReturnCacheableAddress() throws Exception {
+        viaCep.uf("81010100", "PR");
+
+        String etag = mockMvc.perform(get("/api/cep/{cep}", "81010-100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.uf").value("PR"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=86400")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/cep/{cep}", "81010100").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        assertEquals(1, viaCep.consultas("81010100"));
+    }
+
+    @Test
+    @DisplayName("consultar should reject malformed CEPs and not cache missing ones")
+    void consultar_ShouldRejectInvalid_AndNotCacheMissing() throws Exception {
+        viaCep.inexistente("81099999");
+
+        mockMvc.perform(get("/api/cep/{cep}", "8101"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/cep/{cep}", "81099999"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("consultarLote should resolve distinct CEPs and skip caching when any is missing")
+    void consultarLote_ShouldResolveDistinctCeps() throws Exception {
+        viaCep.inexistente("81199999");
+
+        mockMvc.perform(get("/api/cep").param("ceps", "81110000,81110-000,81120000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$['81110000'].cep").value("81110-000"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=86400")));
+        assertEquals(1, viaCep.consultas("81110000"));
+
+        mockMvc.perform(get("/api/cep").param("ceps", "81110000,81199999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"));
+    }
+}
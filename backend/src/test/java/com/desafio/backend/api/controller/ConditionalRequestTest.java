@@ -0,0 +1,192 @@
+package com.desafio.backend.api.controller;
+
+import com.desafio.backend.support.ViaCepStub;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalRequestTest {
+
+    private static final ViaCepStub viaCep = new ViaCepStub();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("cep.api.url", viaCep::baseUrl);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        viaCep.close();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("buscar should answer 304 for a matching If-None-Match and honour If-Match on PUT")
+    void buscar_ShouldReturnNotModified_AndAtualizarShouldCheckIfMatch() throws Exception {
+        long id = criar("/api/empresas", """
+                {"cnpj": "66000000000100", "nomeFantasia": "Condicional", "cep": "01001000"}
+                """);
+
+        MvcResult primeira = mockMvc.perform(get("/api/empresas/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn();
+        String etag = primeira.getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/api/empresas/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        String alteracao = """
+                {"cnpj": "66000000000100", "nomeFantasia": "Condicional Alterada", "cep": "01001000"}
+                """;
+        mockMvc.perform(put("/api/empresas/{id}", id).header(HttpHeaders.IF_MATCH, "\"desatualizada\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(alteracao))
+                .andExpect(status().isPreconditionFailed());
+
+        String novaEtag = mockMvc.perform(put("/api/empresas/{id}", id).header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON).content(alteracao))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nomeFantasia").value("Condicional Alterada"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, novaEtag);
+
+        mockMvc.perform(get("/api/empresas/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/empresas/{id}", id).header(HttpHeaders.IF_NONE_MATCH, novaEtag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("concurrent PUTs carrying the same If-Match should let only one write through")
+    void atualizar_ShouldAcceptOnlyOneWritePerEtag() throws Exception {
+        long id = criar("/api/fornecedores", """
+                {"tipoPessoa": "JURIDICA", "identificadorFiscal": "66000000000301", "nome": "Disputa",
+                 "email": "disputa@example.com", "cep": "01001000"}
+                """);
+        String etag = etag(get("/api/fornecedores/{id}", id));
+
+        int escritores = 4;
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService clientes = Executors.newFixedThreadPool(escritores);
+        List<Future<Integer>> respostas = new ArrayList<>();
+        try {
+            for (int i = 0; i < escritores; i++) {
+                String corpo = """
+                        {"tipoPessoa": "JURIDICA", "identificadorFiscal": "66000000000301", "nome": "Disputa %d",
+                         "email": "disputa@example.com", "cep": "01001000"}
+                        """.formatted(i);
+                respostas.add(clientes.submit(() -> {
+                    largada.await();
+                    return mockMvc.perform(put("/api/fornecedores/{id}", id).header(HttpHeaders.IF_MATCH, etag)
+                                    .contentType(MediaType.APPLICATION_JSON).content(corpo))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            largada.countDown();
+            List<Integer> status = new ArrayList<>();
+            for (Future<Integer> resposta : respostas) {
+                status.add(resposta.get());
+            }
+            assertEquals(1, Collections.frequency(status, 200), "Status recebidos: " + status);
+            assertEquals(escritores - 1, Collections.frequency(status, 412), "Status recebidos: " + status);
+        } finally {
+            clientes.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("listar and buscar should change their ETag when only the associations change")
+    void etag_ShouldChange_WhenAssociationsChange() throws Exception {
+        long empresaId = criar("/api/empresas", """
+                {"cnpj": "66000000000200", "nomeFantasia": "Lista Condicional", "cep": "01001000"}
+                """);
+        long fornecedorId = criar("/api/fornecedores", """
+                {"tipoPessoa": "JURIDICA", "identificadorFiscal": "66000000000201", "nome": "Fornecedor Condicional",
+                 "email": "condicional@example.com", "cep": "01001000"}
+                """);
+
+        String lista = etag(get("/api/empresas").param("cnpj", "66000000000200"));
+        String empresa = etag(get("/api/empresas/{id}", empresaId));
+        String fornecedor = etag(get("/api/fornecedores/{id}", fornecedorId));
+        mockMvc.perform(get("/api/empresas").param("cnpj", "66000000000200").header(HttpHeaders.IF_NONE_MATCH, lista))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/empresas/{id}/fornecedores", empresaId)
+                        .contentType(MediaType.APPLICATION_JSON).content("[" + fornecedorId + "]"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/empresas").param("cnpj", "66000000000200").header(HttpHeaders.IF_NONE_MATCH, lista))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].fornecedorIds[0]").value(fornecedorId));
+        assertNotEquals(empresa, etag(get("/api/empresas/{id}", empresaId)));
+        String vinculado = etag(get("/api/fornecedores/{id}", fornecedorId));
+        assertNotEquals(fornecedor, vinculado);
+
+        mockMvc.perform(put("/api/fornecedores/{id}", fornecedorId).contentType(MediaType.APPLICATION_JSON).content("""
+                        {"tipoPessoa": "JURIDICA", "identificadorFiscal": "66000000000201", "nome": "Fornecedor Condicional",
+                         "email": "condicional@example.com", "cep": "01001000", "empresaIds": []}
+                        """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.empresaIds").isEmpty());
+
+        mockMvc.perform(get("/api/empresas/{id}", empresaId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fornecedorIds").isEmpty());
+        mockMvc.perform(get("/api/fornecedores/{id}", fornecedorId).header(HttpHeaders.IF_NONE_MATCH, vinculado))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.empresaIds").isEmpty());
+    }
+
+    private long criar(String url, String corpo) throws Exception {
+        String resposta = mockMvc.perform(post(url).contentType(MediaType.APPLICATION_JSON).content(corpo))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode json = objectMapper.readTree(resposta);
+        return json.get("id").asLong();
+    }
+
+    private String etag(RequestBuilder requisicao) throws Exception {
+        return mockMvc.perform(requisicao)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,136 @@
+package com.desafio.backend.api.controller;
+
+import com.desafio.backend.support.ViaCepStub;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.desafio.backend.support.Consultas.assertConsultas;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Fixa quantos comandos SQL cada endpoint executa, sempre com o cache de segundo nível vazio. As contagens
+ * não podem depender da quantidade de registros retornados.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConsultasPorRequisicaoTest {
+
+    private static final ViaCepStub viaCep = new ViaCepStub();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("cep.api.url", viaCep::baseUrl);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        viaCep.close();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private static final List<Long> empresas = new ArrayList<>();
+    private static final List<Long> fornecedores = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        if (empresas.isEmpty()) {
+            for (int i = 0; i < 3; i++) {
+                fornecedores.add(criar("/api/fornecedores", """
+                        {"tipoPessoa": "JURIDICA", "identificadorFiscal": "4500000000030%d", "nome": "Orcamento %d",
+                         "email": "orcamento%d@example.com", "cep": "01001000"}
+                        """.formatted(i, i, i)));
+            }
+            for (int i = 0; i < 3; i++) {
+                empresas.add(criar("/api/empresas", """
+                        {"cnpj": "4500000000010%d", "nomeFantasia": "Orcamento %d", "cep": "01001000",
+                         "fornecedorIds": %s}
+                        """.formatted(i, i, fornecedores)));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("empresa endpoints should run a fixed number of statements")
+    void empresas_ShouldRunFixedNumberOfStatements() throws Throwable {
+        semCache();
+        assertConsultas(3, () -> mockMvc.perform(get("/api/empresas").param("nomeFantasia", "Orcamento"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3)));
+
+        semCache();
+        assertConsultas(2, () -> mockMvc.perform(get("/api/empresas/{id}", empresas.get(0)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fornecedorIds.length()").value(3)));
+
+        semCache();
+        assertConsultas(4, () -> mockMvc.perform(post("/api/empresas").contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"cnpj": "45000000000199", "nomeFantasia": "Orcamento Nova", "cep": "01001000",
+                                 "fornecedorIds": %s}
+                                """.formatted(fornecedores.subList(1, 3))))
+                .andExpect(status().isCreated()));
+    }
+
+    @Test
+    @DisplayName("fornecedor endpoints should run a fixed number of statements")
+    void fornecedores_ShouldRunFixedNumberOfStatements() throws Throwable {
+        semCache();
+        assertConsultas(3, () -> mockMvc.perform(get("/api/fornecedores").param("nome", "Orcamento"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3)));
+
+        semCache();
+        assertConsultas(3, () -> mockMvc.perform(get("/api/fornecedores/cursor").param("nome", "Orcamento"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3)));
+
+        semCache();
+        assertConsultas(2, () -> mockMvc.perform(get("/api/fornecedores/{id}", fornecedores.get(0)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.empresaIds.length()").value(3)));
+
+        semCache();
+        assertConsultas(4, () -> mockMvc.perform(post("/api/fornecedores").contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"tipoPessoa": "JURIDICA", "identificadorFiscal": "45000000000399", "nome": "Orcamento Novo",
+                                 "email": "orcamento.novo@example.com", "cep": "01001000", "empresaIds": %s}
+                                """.formatted(empresas.subList(1, 3))))
+                .andExpect(status().isCreated()));
+    }
+
+    private void semCache() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private long criar(String url, String corpo) throws Exception {
+        String resposta = mockMvc.perform(post(url).contentType(MediaType.APPLICATION_JSON).content(corpo))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(resposta).get("id").asLong();
+    }
+}
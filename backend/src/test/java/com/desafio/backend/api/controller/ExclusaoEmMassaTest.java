@@ -0,0 +1,136 @@
+package com.desafio.backend.api.controller;
+
+import com.desafio.backend.domain.repository.EmpresaRepository;
+import com.desafio.backend.domain.repository.FornecedorRepository;
+import com.desafio.backend.support.ViaCepStub;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.desafio.backend.support.Consultas.assertConsultas;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "exclusao.chunk-size=2")
+@AutoConfigureMockMvc
+class ExclusaoEmMassaTest {
+
+    private static final ViaCepStub viaCep = new ViaCepStub();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("cep.api.url", viaCep::baseUrl);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        viaCep.close();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private FornecedorRepository fornecedorRepository;
+
+    @Autowired
+    private EmpresaRepository empresaRepository;
+
+    @Test
+    @DisplayName("bulk deletes by ids and by filter should remove fornecedores and their associations in chunks")
+    void deletarEmMassa_ShouldRemoveFornecedoresAndAssociations() throws Exception {
+        List<Long> fornecedores = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            fornecedores.add(criar("/api/fornecedores", """
+                    {"tipoPessoa": "JURIDICA", "identificadorFiscal": "6700000000030%d", "nome": "Exclusao %d",
+                     "email": "exclusao%d@example.com", "cep": "01001000"}
+                    """.formatted(i, i, i)));
+        }
+        long empresa = criar("/api/empresas", """
+                {"cnpj": "67000000000100", "nomeFantasia": "Exclusao", "cep": "01001000", "fornecedorIds": %s}
+                """.formatted(fornecedores));
+        mockMvc.perform(get("/api/empresas/{id}", empresa))
+                .andExpect(jsonPath("$.fornecedorIds.length()").value(5));
+
+        mockMvc.perform(delete("/api/fornecedores")
+                        .param("ids", idsDe(fornecedores.subList(0, 3)) + ",999999999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.excluidos").value(3));
+        mockMvc.perform(get("/api/empresas/{id}", empresa))
+                .andExpect(jsonPath("$.fornecedorIds.length()").value(2));
+
+        mockMvc.perform(delete("/api/fornecedores"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(delete("/api/fornecedores").param("nome", "exclusao"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.excluidos").value(2));
+        mockMvc.perform(get("/api/empresas/{id}", empresa))
+                .andExpect(jsonPath("$.fornecedorIds.length()").value(0));
+
+        assertTrue(fornecedorRepository.findExistingIds(fornecedores).isEmpty());
+        assertTrue(empresaRepository.findFornecedorIdsByEmpresaIdIn(List.of(empresa)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("single deletes should run a fixed number of statements regardless of the associations")
+    void deletar_ShouldNotLoadAssociations() throws Throwable {
+        List<Long> fornecedores = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            fornecedores.add(criar("/api/fornecedores", """
+                    {"tipoPessoa": "JURIDICA", "identificadorFiscal": "6700000000040%d", "nome": "Remocao %d",
+                     "email": "remocao%d@example.com", "cep": "01001000"}
+                    """.formatted(i, i, i)));
+        }
+        List<Long> empresas = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            empresas.add(criar("/api/empresas", """
+                    {"cnpj": "6700000000020%d", "nomeFantasia": "Remocao %d", "cep": "01001000", "fornecedorIds": %s}
+                    """.formatted(i, i, fornecedores)));
+        }
+
+        assertConsultas(5, () -> mockMvc.perform(delete("/api/fornecedores/{id}", fornecedores.get(0)))
+                .andExpect(status().isNoContent()));
+        assertConsultas(5, () -> mockMvc.perform(delete("/api/empresas/{id}", empresas.get(0)))
+                .andExpect(status().isNoContent()));
+        mockMvc.perform(delete("/api/empresas/{id}", empresas.get(0)))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/fornecedores/{id}", fornecedores.get(1)))
+                .andExpect(jsonPath("$.empresaIds.length()").value(2));
+        mockMvc.perform(get("/api/empresas/{id}", empresas.get(1)))
+                .andExpect(jsonPath("$.fornecedorIds.length()").value(2));
+        assertEquals(0, fornecedorRepository.findEmpresaIdsByFornecedorIdIn(List.of(fornecedores.get(0))).size());
+    }
+
+    private static String idsDe(List<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private long criar(String url, String corpo) throws Exception {
+        String resposta = mockMvc.perform(post(url).contentType(MediaType.APPLICATION_JSON).content(corpo))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(resposta).get("id").asLong();
+    }
+}
@@ -0,0 +1,130 @@
+package com.desafio.backend.api.controller;
+
+import com.desafio.backend.domain.model.Empresa;
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.model.FornecedorPessoaFisica;
+import com.desafio.backend.domain.model.FornecedorPessoaJuridica;
+import com.desafio.backend.domain.repository.EmpresaRepository;
+import com.desafio.backend.domain.repository.FornecedorRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "exportacao.fetch-size=2")
+class ExportacaoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FornecedorRepository fornecedorRepository;
+
+    @Autowired
+    private EmpresaRepository empresaRepository;
+
+    @BeforeEach
+    void setUp() {
+        if (empresaRepository.findByCnpj("33000000000001").isPresent()) {
+            return;
+        }
+        FornecedorPessoaFisica fisica = new FornecedorPessoaFisica();
+        fisica.setRg("1234567");
+        fisica.setDataNascimento(LocalDate.of(1990, 5, 10));
+        Fornecedor pf = fornecedorRepository.save(preencher(fisica, "33000000001", "Exportacao Fisica"));
+        Fornecedor pj = fornecedorRepository.save(preencher(new FornecedorPessoaJuridica(), "33000000000002", "Exportacao Juridica"));
+        fornecedorRepository.save(preencher(new FornecedorPessoaJuridica(), "33000000000003", "Exportacao Sem Empresa"));
+
+        Empresa empresa = new Empresa();
+        empresa.setCnpj("33000000000001");
+        empresa.setNomeFantasia("Exportacao Empresa");
+        empresa.setCep("01001000");
+        empresa.setFornecedores(Set.of(pf, pj));
+        empresaRepository.save(empresa);
+
+        Empresa outra = new Empresa();
+        outra.setCnpj("33000000000004");
+        outra.setNomeFantasia("Outra Empresa");
+        outra.setCep("01001000");
+        outra.setFornecedores(Set.of(pf));
+        empresaRepository.save(outra);
+    }
+
+    @Test
+    @DisplayName("exportar should stream filtered fornecedores as CSV with their empresa ids")
+    void exportar_ShouldStreamFornecedoresAsCsv() throws Exception {
+        MvcResult inicio = mockMvc.perform(get("/api/fornecedores/exportacao").param("nome", "exportacao"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String csv = mockMvc.perform(asyncDispatch(inicio))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=fornecedores.csv"))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> linhas = csv.lines().toList();
+        assertEquals(4, linhas.size());
+        assertEquals("id,tipoPessoa,identificadorFiscal,nome,email,cep,rg,dataNascimento,empresaIds", linhas.get(0));
+        Long empresaId = empresaRepository.findByCnpj("33000000000001").orElseThrow().getId();
+        Long outraId = empresaRepository.findByCnpj("33000000000004").orElseThrow().getId();
+        assertTrue(linhas.get(1).contains(",FISICA,33000000001,\"Exportacao Fisica\","));
+        assertTrue(linhas.get(1).contains(",1234567,1990-05-10,"));
+        assertTrue(linhas.get(1).endsWith("," + empresaId + ";" + outraId) || linhas.get(1).endsWith("," + outraId + ";" + empresaId));
+        assertTrue(linhas.get(2).endsWith("," + empresaId));
+        assertTrue(linhas.get(3).endsWith(","));
+    }
+
+    @Test
+    @DisplayName("exportar should stream empresas as NDJSON, one object per line")
+    void exportar_ShouldStreamEmpresasAsNdjson() throws Exception {
+        MvcResult inicio = mockMvc.perform(get("/api/empresas/exportacao")
+                        .param("cnpj", "33000000000001").param("formato", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String ndjson = mockMvc.perform(asyncDispatch(inicio))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> linhas = ndjson.lines().toList();
+        assertEquals(1, linhas.size());
+        assertTrue(linhas.get(0).contains("\"nomeFantasia\":\"Exportacao Empresa\""));
+        assertTrue(linhas.get(0).contains("\"fornecedorIds\":["));
+    }
+
+    @Test
+    @DisplayName("exportar should reject unknown formats")
+    void exportar_ShouldRejectUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/fornecedores/exportacao").param("formato", "xlsx"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static Fornecedor preencher(Fornecedor fornecedor, String identificadorFiscal, String nome) {
+        fornecedor.setIdentificadorFiscal(identificadorFiscal);
+        fornecedor.setNome(nome);
+        fornecedor.setEmail(identificadorFiscal + "@example.com");
+        fornecedor.setCep("01001000");
+        return fornecedor;
+    }
+}
@@ -0,0 +1,103 @@
+package com.desafio.backend.api.controller;
+
+import com.desafio.backend.domain.repository.EmpresaRepository;
+import com.desafio.backend.domain.repository.FornecedorRepository;
+import com.desafio.backend.support.ViaCepStub;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ImportacaoControllerTest {
+
+    private static final ViaCepStub viaCep = new ViaCepStub().inexistente("99999999");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("cep.api.url", viaCep::baseUrl);
+        registry.add("importacao.chunk-size", () -> 2);
+        registry.add("importacao.max-erros", () -> 3);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        viaCep.close();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FornecedorRepository fornecedorRepository;
+
+    @Autowired
+    private EmpresaRepository empresaRepository;
+
+    @Test
+    @DisplayName("importar should insert valid CSV rows and report the rejected ones by record number")
+    void importar_ShouldInsertValidCsvRows_AndReportRejected() throws Exception {
+        String csv = """
+                tipoPessoa,identificadorFiscal,nome,email,cep,rg,dataNascimento
+                JURIDICA,22000000000101,Importada Um,importada1@example.com,01001000,,
+                FISICA,22000000102,Importada Dois,importada2@example.com,01002000,1234567,1990-05-10
+                JURIDICA,22000000000101,Duplicada,duplicada@example.com,01001000,,
+                JURIDICA,22000000000104,Sem Cep,semcep@example.com,99999999,,
+                JURIDICA,22000000000105,Email Ruim,nao-e-email,01001000,,
+                OUTRO,22000000000106,Tipo Ruim,tipo@example.com,01001000,,
+                JURIDICA,22000000000107,Importada Tres,importada3@example.com,01003000,,
+                """;
+
+        mockMvc.perform(post("/api/fornecedores/importacao").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processadas").value(7))
+                .andExpect(jsonPath("$.importadas").value(3))
+                .andExpect(jsonPath("$.rejeitadas").value(4))
+                .andExpect(jsonPath("$.erros.length()").value(3))
+                .andExpect(jsonPath("$.errosTruncados").value(true))
+                .andExpect(jsonPath("$.erros[0].registro").value(3))
+                .andExpect(jsonPath("$.erros[0].mensagem").value("Identificador Fiscal (CNPJ/CPF) já cadastrado."))
+                .andExpect(jsonPath("$.erros[1].registro").value(4))
+                .andExpect(jsonPath("$.erros[1].mensagem").value(startsWith("CEP inválido")))
+                .andExpect(jsonPath("$.erros[2].registro").value(5))
+                .andExpect(jsonPath("$.erros[2].mensagem").value(startsWith("email:")));
+
+        assertTrue(fornecedorRepository.findByIdentificadorFiscal("22000000000101").isPresent());
+        assertTrue(fornecedorRepository.findByIdentificadorFiscal("22000000102").isPresent());
+        assertTrue(fornecedorRepository.findByIdentificadorFiscal("22000000000107").isPresent());
+        assertTrue(fornecedorRepository.findByIdentificadorFiscal("22000000000104").isEmpty());
+    }
+
+    @Test
+    @DisplayName("importar should keep reading NDJSON after a malformed record")
+    void importar_ShouldSkipMalformedNdjsonRecords() throws Exception {
+        String ndjson = """
+                {"cnpj":"22000000000201","nomeFantasia":"Empresa Importada Um","cep":"01001000"}
+                {"cnpj":"22000000000202","nomeFantasia":"Empresa Importada Dois","cep":[1,2]}
+                {"cnpj":"22000000000203","nomeFantasia":"Empresa Importada Tres","cep":"01001000"}
+                {"cnpj":"22000000000201","nomeFantasia":"Empresa Repetida","cep":"01001000"}
+                """;
+
+        mockMvc.perform(post("/api/empresas/importacao").contentType("application/x-ndjson").content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processadas").value(4))
+                .andExpect(jsonPath("$.importadas").value(2))
+                .andExpect(jsonPath("$.erros[0].registro").value(2))
+                .andExpect(jsonPath("$.erros[0].mensagem").value(startsWith("Registro mal formatado")))
+                .andExpect(jsonPath("$.erros[1].registro").value(4));
+
+        assertTrue(empresaRepository.findByCnpj("22000000000203").isPresent());
+    }
+}
@@ -0,0 +1,72 @@
+package com.desafio.backend.api.controller;
+
+import com.desafio.backend.support.ViaCepStub;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class MetricasTest {
+
+    private static final ViaCepStub viaCep = new ViaCepStub();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("cep.api.url", viaCep::baseUrl);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        viaCep.close();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("prometheus should expose service timers, CEP outcomes, Hibernate and Hikari metrics")
+    void prometheus_ShouldExposeApplicationMetrics() throws Exception {
+        for (String cnpj : new String[]{"88000000000101", "88000000000102"}) {
+            mockMvc.perform(post("/api/empresas").contentType(MediaType.APPLICATION_JSON).content("""
+                            {"cnpj": "%s", "nomeFantasia": "Empresa Metrica", "cep": "04538133"}
+                            """.formatted(cnpj)))
+                    .andExpect(status().isCreated());
+        }
+        viaCep.inexistente("99999999");
+        mockMvc.perform(post("/api/empresas").contentType(MediaType.APPLICATION_JSON).content("""
+                        {"cnpj": "88000000000103", "nomeFantasia": "Empresa Metrica", "cep": "99999999"}
+                        """))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        containsString("servico_seconds_bucket{application=\"backend\",class=\"com.desafio.backend.domain.service.EmpresaService\",exception=\"none\",method=\"salvar\""),
+                        containsString("cep_consulta_seconds_count{application=\"backend\",resultado=\"viacep\"} 1"),
+                        containsString("cep_consulta_seconds_count{application=\"backend\",resultado=\"cache\"} 1"),
+                        containsString("cep_consulta_seconds_count{application=\"backend\",resultado=\"inexistente\"} 1"),
+                        containsString("cep_viacep_circuito_aberto{"),
+                        containsString("http_client_requests_seconds_count{application=\"backend\",client_name=\"127.0.0.1\",error=\"none\",exception=\"none\",method=\"GET\",outcome=\"SUCCESS\",status=\"200\",uri=\"/ws/{cep}/json/\""),
+                        containsString("hibernate_query_executions_total{"),
+                        containsString("hibernate_entities_inserts_total{"),
+                        containsString("hibernate_collections_fetches_total{"),
+                        containsString("hikaricp_connections_active{"))));
+    }
+}
@@ -0,0 +1,84 @@
+package com.desafio.backend.api.mapper;
+
+import com.desafio.backend.api.dto.FornecedorDTO;
+import com.desafio.backend.domain.exception.BusinessException;
+import com.desafio.backend.domain.model.Empresa;
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.model.FornecedorPessoaFisica;
+import com.desafio.backend.domain.model.FornecedorPessoaJuridica;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FornecedorMapperTest {
+
+    private final FornecedorMapper fornecedorMapper = new FornecedorMapper();
+
+    @Test
+    @DisplayName("toDto should map pessoa física fields, discriminator and empresa ids")
+    void toDto_ShouldMapPessoaFisica() {
+        FornecedorPessoaFisica pf = new FornecedorPessoaFisica();
+        pf.setId(1L);
+        pf.setIdentificadorFiscal("12345678901");
+        pf.setNome("Fornecedor PF");
+        pf.setEmail("pf@example.com");
+        pf.setCep("80010000");
+        pf.setRg("123456");
+        pf.setDataNascimento(LocalDate.of(2000, 1, 1));
+        Empresa empresa = new Empresa();
+        empresa.setId(7L);
+        pf.setEmpresas(Set.of(empresa));
+
+        FornecedorDTO dto = fornecedorMapper.toDto(pf);
+
+        assertEquals(1L, dto.getId());
+        assertEquals("FISICA", dto.getTipoPessoa());
+        assertEquals("123456", dto.getRg());
+        assertEquals(LocalDate.of(2000, 1, 1), dto.getDataNascimento());
+        assertEquals(Set.of(7L), dto.getEmpresaIds());
+    }
+
+    @Test
+    @DisplayName("toDto should leave pessoa física fields empty for pessoa jurídica")
+    void toDto_ShouldMapPessoaJuridica() {
+        FornecedorPessoaJuridica pj = new FornecedorPessoaJuridica();
+        pj.setId(2L);
+        pj.setEmpresas(null);
+
+        FornecedorDTO dto = fornecedorMapper.toDto(pj);
+
+        assertEquals("JURIDICA", dto.getTipoPessoa());
+        assertNull(dto.getRg());
+        assertNull(dto.getDataNascimento());
+        assertEquals(Set.of(), dto.getEmpresaIds());
+    }
+
+    @Test
+    @DisplayName("toEntity should pick the subtype from tipoPessoa and skip id and associations")
+    void toEntity_ShouldCreateSubtypeWithoutIdOrAssociations() {
+        FornecedorDTO dto = new FornecedorDTO(99L, "fisica", "12345678901", "Nome", "email@example.com", "80010000",
+                "123456", LocalDate.of(1990, 1, 1), Set.of(1L, 2L));
+
+        Fornecedor fornecedor = fornecedorMapper.toEntity(dto);
+
+        FornecedorPessoaFisica pf = assertInstanceOf(FornecedorPessoaFisica.class, fornecedor);
+        assertNull(pf.getId());
+        assertTrue(pf.getEmpresas().isEmpty());
+        assertEquals("123456", pf.getRg());
+        assertEquals("80010000", pf.getCep());
+    }
+
+    @Test
+    @DisplayName("toEntity should reject unknown tipoPessoa")
+    void toEntity_ShouldRejectUnknownTipoPessoa() {
+        FornecedorDTO dto = new FornecedorDTO();
+        dto.setTipoPessoa("OUTRO");
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> fornecedorMapper.toEntity(dto));
+        assertEquals("Tipo de pessoa inválido: OUTRO", exception.getMessage());
+    }
+}
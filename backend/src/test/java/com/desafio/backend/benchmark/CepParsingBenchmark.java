@@ -0,0 +1,26 @@
+package com.desafio.backend.benchmark;
+
+import com.desafio.backend.domain.service.CepService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limpeza do CEP feita no início de cada {@code CepService.consultarCep}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CepParsingBenchmark {
+
+    @Param({"80010000", "80010-000", " 80.010-000 "})
+    public String cep;
+
+    @Benchmark
+    public String limparCep() {
+        return CepService.limparCep(cep);
+    }
+}
@@ -0,0 +1,74 @@
+package com.desafio.backend.benchmark;
+
+import com.desafio.backend.api.dto.CepResponseDTO;
+import com.desafio.backend.domain.service.CepRegionIndex;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a resolução de UF pelo {@link CepRegionIndex} com a consulta HTTP que o
+ * {@code isParana} fazia antes, contra um stub local do ViaCEP (sem latência de rede real).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CepRegionIndexBenchmark {
+
+    private static final String[] CEPS = {"80010000", "01001000", "88015600", "69301000", "90010000", "70040010"};
+
+    private CepRegionIndex cepRegionIndex;
+    private HttpServer viaCepStub;
+    private RestTemplate restTemplate;
+    private String baseUrl;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        cepRegionIndex = new CepRegionIndex();
+        viaCepStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        viaCepStub.createContext("/ws/", exchange -> {
+            byte[] body = "{\"cep\":\"80010-000\",\"localidade\":\"Curitiba\",\"uf\":\"PR\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        viaCepStub.start();
+        baseUrl = "http://127.0.0.1:" + viaCepStub.getAddress().getPort() + "/ws/";
+        restTemplate = new RestTemplate();
+    }
+
+    @TearDown
+    public void tearDown() {
+        viaCepStub.stop(0);
+    }
+
+    @Benchmark
+    public String regionIndex() {
+        return cepRegionIndex.ufOf(CEPS[next++ % CEPS.length]);
+    }
+
+    @Benchmark
+    public String httpLookup() {
+        CepResponseDTO response = restTemplate.getForObject(baseUrl + CEPS[next++ % CEPS.length] + "/json/", CepResponseDTO.class);
+        return response != null ? response.uf() : null;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CepRegionIndexBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,29 @@
+package com.desafio.backend.benchmark;
+
+import com.desafio.backend.domain.model.FornecedorPessoaFisica;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FornecedorAgeBenchmark {
+
+    private FornecedorPessoaFisica fornecedor;
+
+    @Setup
+    public void setUp() {
+        fornecedor = new FornecedorPessoaFisica();
+        fornecedor.setDataNascimento(LocalDate.of(2008, 3, 15));
+    }
+
+    @Benchmark
+    public Integer getAge() {
+        return fornecedor.getAge();
+    }
+}
@@ -0,0 +1,96 @@
+package com.desafio.backend.benchmark;
+
+import com.desafio.backend.domain.repository.FornecedorRepository;
+import com.desafio.backend.domain.service.FornecedorPrefixIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typeahead sobre 1M de fornecedores sintéticos. O setup imprime a memória ocupada pelo índice.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class FornecedorPrefixIndexBenchmark {
+
+    private static final String[] PREFIXOS = {"Comércio", "Distribuidora", "Indústria", "Açougue", "Transportes", "Mercado"};
+    private static final String[] SOBRENOMES = {"Silva", "Souza", "Oliveira", "Pereira", "Lima", "Gonçalves", "Araújo"};
+
+    @Param({"1000000"})
+    public int registros;
+
+    private FornecedorPrefixIndex index;
+
+    @Setup
+    public void setUp() {
+        long antes = heapUsado();
+        index = new FornecedorPrefixIndex(repositorioSintetico(registros), 10_000);
+        index.carregar();
+        long depois = heapUsado();
+        FornecedorPrefixIndex.Estatisticas estatisticas = index.estatisticas();
+        System.out.printf("%n[FornecedorPrefixIndex] registros=%d bytesEstimados=%d (%.1f B/registro) heapRetido=%d%n",
+                estatisticas.registros(), estatisticas.bytesEstimados(),
+                (double) estatisticas.bytesEstimados() / estatisticas.registros(), depois - antes);
+    }
+
+    @Benchmark
+    public List<FornecedorPrefixIndex.Sugestao> nomeCurto() {
+        return index.sugerir("com", 10);
+    }
+
+    @Benchmark
+    public List<FornecedorPrefixIndex.Sugestao> nomeLongo() {
+        return index.sugerir("acougue silva 12", 10);
+    }
+
+    @Benchmark
+    public List<FornecedorPrefixIndex.Sugestao> documento() {
+        return index.sugerir("123.45", 10);
+    }
+
+    private static FornecedorRepository repositorioSintetico(int registros) {
+        return (FornecedorRepository) Proxy.newProxyInstance(FornecedorRepository.class.getClassLoader(),
+                new Class<?>[]{FornecedorRepository.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("findIndexRowsAfter")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    long ultimoId = (Long) args[0];
+                    int tamanho = ((Pageable) args[1]).getPageSize();
+                    Random random = new Random(ultimoId);
+                    List<Object[]> linhas = new ArrayList<>(tamanho);
+                    for (long id = ultimoId + 1; id <= registros && linhas.size() < tamanho; id++) {
+                        String nome = PREFIXOS[random.nextInt(PREFIXOS.length)] + " "
+                                + SOBRENOMES[random.nextInt(SOBRENOMES.length)] + " " + id;
+                        String documento = id % 2 == 0
+                                ? String.format("%014d", Math.floorMod(random.nextLong(), 100_000_000_000_000L))
+                                : String.format("%011d", Math.floorMod(random.nextLong(), 100_000_000_000L));
+                        linhas.add(new Object[]{id, nome, documento});
+                    }
+                    return linhas;
+                });
+    }
+
+    private static long heapUsado() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FornecedorPrefixIndexBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,66 @@
+package com.desafio.backend.benchmark;
+
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.repository.FornecedorSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de montar os predicados do {@link FornecedorSpecification#filterBy} via Criteria API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FornecedorSpecificationBenchmark {
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+    private EntityManager entityManager;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup
+    public void setUp() {
+        entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(new DriverManagerDataSource("jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1", "sa", ""));
+        entityManagerFactory.setPackagesToScan("com.desafio.backend.domain.model");
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "none"));
+        entityManagerFactory.afterPropertiesSet();
+        entityManager = entityManagerFactory.getObject().createEntityManager();
+        criteriaBuilder = entityManager.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.destroy();
+    }
+
+    @Benchmark
+    public Predicate semFiltros() {
+        return toPredicate(null, null);
+    }
+
+    @Benchmark
+    public Predicate nomeEIdentificador() {
+        return toPredicate("Forn", "123");
+    }
+
+    private Predicate toPredicate(String nome, String identificadorFiscal) {
+        CriteriaQuery<Fornecedor> query = criteriaBuilder.createQuery(Fornecedor.class);
+        Root<Fornecedor> root = query.from(Fornecedor.class);
+        return FornecedorSpecification.filterBy(nome, identificadorFiscal).toPredicate(root, query, criteriaBuilder);
+    }
+}
@@ -0,0 +1,109 @@
+package com.desafio.backend.benchmark;
+
+import com.desafio.backend.api.dto.EmpresaDTO;
+import com.desafio.backend.api.dto.FornecedorDTO;
+import com.desafio.backend.api.mapper.EmpresaMapper;
+import com.desafio.backend.api.mapper.FornecedorMapper;
+import com.desafio.backend.domain.model.Empresa;
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.model.FornecedorPessoaFisica;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por objeto do mapeamento entidade/DTO: ModelMapper reflexivo (baseline) contra os mappers dedicados.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private EmpresaMapper empresaMapper;
+    private FornecedorMapper fornecedorMapper;
+    private Empresa empresa;
+    private FornecedorPessoaFisica fornecedor;
+    private FornecedorDTO fornecedorDTO;
+
+    @Setup
+    public void setUp() {
+        modelMapper = ModelMapperBaseline.create();
+        empresaMapper = new EmpresaMapper();
+        fornecedorMapper = new FornecedorMapper();
+
+        empresa = new Empresa();
+        empresa.setId(1L);
+        empresa.setCnpj("12345678000199");
+        empresa.setNomeFantasia("Empresa Benchmark");
+        empresa.setCep("80010000");
+
+        fornecedor = new FornecedorPessoaFisica();
+        fornecedor.setId(2L);
+        fornecedor.setIdentificadorFiscal("12345678901");
+        fornecedor.setNome("Fornecedor Benchmark");
+        fornecedor.setEmail("fornecedor@example.com");
+        fornecedor.setCep("01001000");
+        fornecedor.setRg("123456789");
+        fornecedor.setDataNascimento(LocalDate.of(1990, 5, 17));
+
+        Set<Fornecedor> fornecedores = new HashSet<>();
+        Set<Empresa> empresas = new HashSet<>();
+        for (long id = 10; id < 15; id++) {
+            Empresa vinculada = new Empresa();
+            vinculada.setId(id);
+            empresas.add(vinculada);
+            FornecedorPessoaFisica vinculado = new FornecedorPessoaFisica();
+            vinculado.setId(id);
+            fornecedores.add(vinculado);
+        }
+        empresa.setFornecedores(fornecedores);
+        fornecedor.setEmpresas(empresas);
+
+        fornecedorDTO = fornecedorMapper.toDto(fornecedor);
+    }
+
+    @Benchmark
+    public EmpresaDTO empresaToDtoModelMapper() {
+        return modelMapper.map(empresa, EmpresaDTO.class);
+    }
+
+    @Benchmark
+    public EmpresaDTO empresaToDtoMapper() {
+        return empresaMapper.toDto(empresa);
+    }
+
+    @Benchmark
+    public FornecedorDTO fornecedorToDtoModelMapper() {
+        return modelMapper.map(fornecedor, FornecedorDTO.class);
+    }
+
+    @Benchmark
+    public FornecedorDTO fornecedorToDtoMapper() {
+        return fornecedorMapper.toDto(fornecedor);
+    }
+
+    @Benchmark
+    public Fornecedor dtoToFornecedorModelMapper() {
+        return modelMapper.map(fornecedorDTO, FornecedorPessoaFisica.class);
+    }
+
+    @Benchmark
+    public Fornecedor dtoToFornecedorMapper() {
+        return fornecedorMapper.toEntity(fornecedorDTO);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MapperBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,58 @@
+package com.desafio.backend.benchmark;
+
+import com.desafio.backend.api.dto.FornecedorDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização JSON de uma página de {@link FornecedorDTO} com a mesma configuração do Jackson da aplicação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int tamanho;
+
+    private ObjectMapper objectMapper;
+    private Page<FornecedorDTO> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+
+        List<FornecedorDTO> conteudo = new ArrayList<>(tamanho);
+        for (long i = 0; i < tamanho; i++) {
+            boolean fisica = i % 2 == 0;
+            conteudo.add(new FornecedorDTO(i, fisica ? "FISICA" : "JURIDICA",
+                    fisica ? String.format("%011d", i) : String.format("%014d", i),
+                    "Fornecedor " + i, "fornecedor" + i + "@example.com", "80010000",
+                    fisica ? "12345678" : null, fisica ? LocalDate.of(1990, 1, 1).plusDays(i) : null,
+                    Set.of(i, i + 1, i + 2)));
+        }
+        page = new PageImpl<>(conteudo, PageRequest.of(0, tamanho), 10_000);
+    }
+
+    @Benchmark
+    public String serializar() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(page);
+    }
+}
@@ -0,0 +1,104 @@
+package com.desafio.backend.benchmark;
+
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.model.FornecedorPessoaJuridica;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de uma gravação de fornecedor com as consultas prévias de unicidade (baseline) contra a
+ * gravação que depende só das restrições do banco. Cada operação é desfeita ao final.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquenessCheckBenchmark {
+
+    private static final int REGISTROS = 10_000;
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+    private EntityManager entityManager;
+    private long sequencia;
+
+    @Setup
+    public void setUp() {
+        entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(new DriverManagerDataSource("jdbc:h2:mem:unicidade;DB_CLOSE_DELAY=-1", "sa", ""));
+        entityManagerFactory.setPackagesToScan("com.desafio.backend.domain.model");
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create-drop"));
+        entityManagerFactory.afterPropertiesSet();
+        entityManager = entityManagerFactory.getObject().createEntityManager();
+
+        entityManager.getTransaction().begin();
+        for (int i = 0; i < REGISTROS; i++) {
+            entityManager.persist(fornecedor(i));
+            if (i % 500 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+        sequencia = REGISTROS;
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.destroy();
+    }
+
+    @Benchmark
+    public Fornecedor verificarEGravar() {
+        Fornecedor novo = fornecedor(sequencia++);
+        entityManager.getTransaction().begin();
+        try {
+            boolean duplicado = !entityManager.createQuery(
+                            "select f from Fornecedor f where f.identificadorFiscal = :valor", Fornecedor.class)
+                    .setParameter("valor", novo.getIdentificadorFiscal()).getResultList().isEmpty()
+                    || !entityManager.createQuery("select f from Fornecedor f where f.email = :valor", Fornecedor.class)
+                    .setParameter("valor", novo.getEmail()).getResultList().isEmpty();
+            if (!duplicado) {
+                entityManager.persist(novo);
+                entityManager.flush();
+            }
+            return novo;
+        } finally {
+            entityManager.getTransaction().rollback();
+            entityManager.clear();
+        }
+    }
+
+    @Benchmark
+    public Fornecedor gravar() {
+        Fornecedor novo = fornecedor(sequencia++);
+        entityManager.getTransaction().begin();
+        try {
+            entityManager.persist(novo);
+            entityManager.flush();
+            return novo;
+        } finally {
+            entityManager.getTransaction().rollback();
+            entityManager.clear();
+        }
+    }
+
+    private static Fornecedor fornecedor(long i) {
+        Fornecedor fornecedor = new FornecedorPessoaJuridica();
+        fornecedor.setIdentificadorFiscal(String.format("%014d", i));
+        fornecedor.setNome("Fornecedor " + i);
+        fornecedor.setEmail("fornecedor" + i + "@example.com");
+        fornecedor.setCep("01001000");
+        return fornecedor;
+    }
+}
@@ -0,0 +1,176 @@
+package com.desafio.backend.benchmark;
+
+import com.desafio.backend.BackendApplication;
+import com.desafio.backend.support.ViaCepStub;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Carga comparando o modo de threads de plataforma com o de threads virtuais: a aplicação sobe com o
+ * ViaCEP atrás de um stub com latência fixa e recebe {@code requisicoes} cadastros de empresa, cada um
+ * com um CEP diferente (sempre fora do cache), vindos de {@code concorrencia} clientes simultâneos.
+ * <p>
+ * Para cada modo registra vazão, latência média e o pico de threads de plataforma da aplicação (sem
+ * contar as do stub e dos clientes). O modo virtual só roda em Java 21+ ({@code -Pjava21}).
+ * O resultado vai para {@code target/carga-threads.json}.
+ * <p>
+ * Argumentos (opcionais, nesta ordem): requisições, concorrência e latência do stub em ms.
+ */
+public class VirtualThreadLoadComparison {
+
+    private static final List<String> THREADS_DA_CARGA = List.of(ViaCepStub.THREADS, "carga-", "HttpClient-");
+
+    public static void main(String[] args) throws Exception {
+        // o restart do devtools chamaria este main de novo, com os argumentos da aplicação
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        int requisicoes = args.length > 0 ? Integer.parseInt(args[0]) : 4000;
+        int concorrencia = args.length > 1 ? Integer.parseInt(args[1]) : 400;
+        Duration latencia = Duration.ofMillis(args.length > 2 ? Long.parseLong(args[2]) : 200);
+
+        List<Resultado> resultados = new ArrayList<>();
+        try (ViaCepStub viaCep = new ViaCepStub().latencia(latencia)) {
+            resultados.add(medir(false, viaCep, requisicoes, concorrencia));
+            if (Runtime.version().feature() >= 21) {
+                resultados.add(medir(true, viaCep, requisicoes, concorrencia));
+            } else {
+                System.out.println("Modo virtual ignorado: requer Java 21 (rode com -Pjava21 em um JDK 21).");
+            }
+        }
+
+        Path saida = Path.of("target", "carga-threads.json");
+        Files.createDirectories(saida.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(saida.toFile(), Map.of(
+                "requisicoes", requisicoes,
+                "concorrencia", concorrencia,
+                "latenciaViaCepMs", latencia.toMillis(),
+                "resultados", resultados));
+        resultados.forEach(System.out::println);
+        System.out.println("Resultado gravado em " + saida.toAbsolutePath());
+    }
+
+    private static Resultado medir(boolean virtual, ViaCepStub viaCep, int requisicoes, int concorrencia)
+            throws InterruptedException {
+        ConfigurableApplicationContext contexto = new SpringApplicationBuilder(BackendApplication.class).run(
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--server.port=0",
+                "--cep.api.url=" + viaCep.baseUrl(),
+                "--cep.client.read-timeout=PT10S",
+                "--cep.client.bulkhead.max-concurrent=100000",
+                "--logging.level.root=WARN");
+        ThreadPoolExecutor clientes = (ThreadPoolExecutor) Executors.newFixedThreadPool(concorrencia, runnable -> {
+            Thread thread = new Thread(runnable, "carga-cliente");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+            URI uri = URI.create("http://127.0.0.1:" + porta + "/api/empresas");
+            HttpClient http = HttpClient.newHttpClient();
+            clientes.prestartAllCoreThreads();
+
+            int base = threadsDaAplicacao();
+            AtomicInteger pico = new AtomicInteger(base);
+            Thread amostrador = new Thread(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    pico.accumulateAndGet(threadsDaAplicacao(), Math::max);
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }, "carga-amostrador");
+            amostrador.setDaemon(true);
+            amostrador.start();
+
+            AtomicInteger proxima = new AtomicInteger();
+            AtomicInteger erros = new AtomicInteger();
+            AtomicLong latenciaTotal = new AtomicLong();
+            int prefixo = virtual ? 2 : 1;
+            CountDownLatch fim = new CountDownLatch(concorrencia);
+            long inicio = System.nanoTime();
+            for (int i = 0; i < concorrencia; i++) {
+                clientes.execute(() -> {
+                    for (int n = proxima.getAndIncrement(); n < requisicoes; n = proxima.getAndIncrement()) {
+                        long enviadaEm = System.nanoTime();
+                        if (!cadastrar(http, uri, prefixo, n)) {
+                            erros.incrementAndGet();
+                        }
+                        latenciaTotal.addAndGet(System.nanoTime() - enviadaEm);
+                    }
+                    fim.countDown();
+                });
+            }
+            fim.await();
+            long duracao = System.nanoTime() - inicio;
+            amostrador.interrupt();
+
+            return new Resultado(virtual ? "virtual" : "plataforma", requisicoes, erros.get(),
+                    duracao / 1_000_000,
+                    requisicoes * 1_000_000_000.0 / duracao,
+                    latenciaTotal.get() / requisicoes / 1_000_000.0,
+                    base, pico.get());
+        } finally {
+            clientes.shutdownNow();
+            contexto.close();
+        }
+    }
+
+    private static boolean cadastrar(HttpClient http, URI uri, int prefixo, int n) {
+        String corpo = String.format("{\"cnpj\":\"%d%013d\",\"nomeFantasia\":\"Carga %d\",\"cep\":\"%d%07d\"}",
+                prefixo, n, n, prefixo, n);
+        HttpRequest requisicao = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+        try {
+            return http.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode() == 201;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Threads de plataforma vivas, sem as do stub, dos clientes e do próprio amostrador. Threads virtuais
+     * não aparecem aqui; no modo virtual contam só as carriers do ForkJoinPool.
+     */
+    private static int threadsDaAplicacao() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        return (int) Arrays.stream(threads.getThreadInfo(threads.getAllThreadIds(), 0))
+                .filter(Objects::nonNull)
+                .map(ThreadInfo::getThreadName)
+                .filter(nome -> THREADS_DA_CARGA.stream().noneMatch(nome::startsWith))
+                .count();
+    }
+
+    public record Resultado(String modo, int requisicoes, int erros, long duracaoMs, double requisicoesPorSegundo,
+                            double latenciaMediaMs, int threadsDePlataformaAntes, int threadsDePlataformaNoPico) {}
+}
@@ -0,0 +1,289 @@
+package com.desafio.backend.benchmark.carga;
+
+import com.desafio.backend.BackendApplication;
+import com.desafio.backend.support.ViaCepStub;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Carga de ponta a ponta na API: sobe a aplicação (com o banco em memória dos testes, ou o banco passado
+ * em {@code --spring.datasource.*}) e o ViaCEP atrás de um {@link ViaCepStub}, grava a massa do
+ * {@link GeradorDeDados} pelos endpoints de importação e de associação e roda cada cenário com
+ * {@code concorrencia} clientes por {@code duracao}, depois de um aquecimento que não entra nas medições.
+ * <p>
+ * Para cada cenário registra vazão e latências p50/p95/p99 por endpoint em {@code target/carga-api.json}.
+ * Não usa a rede: tudo roda em {@code 127.0.0.1}.
+ * <p>
+ * Argumentos no formato {@code chave=valor} (ver {@link #PADROES}); os que começam com {@code --} vão
+ * para a aplicação.
+ */
+public class CargaDaApi {
+
+    static final Map<String, String> PADROES = padroes(
+            "semente", "42",
+            "empresas", "1000",
+            "fornecedores", "3000",
+            "densidade", "0.005",
+            "ceps", "300",
+            "parana", "0.2",
+            "pessoaFisica", "0.6",
+            "menores", "0.05",
+            "cepsNovos", "0.2",
+            "latencia", "50",
+            "variacao", "50",
+            "erros", "0",
+            "concorrencia", "32",
+            "aquecimento", "PT5S",
+            "duracao", "PT20S",
+            "cenarios", "leitura,escrita,misto");
+
+    public static void main(String[] args) throws Exception {
+        // o restart do devtools chamaria este main de novo, com os argumentos da aplicação
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        Map<String, String> opcoes = new LinkedHashMap<>(PADROES);
+        List<String> argumentosDaAplicacao = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                argumentosDaAplicacao.add(arg);
+            } else if (arg.contains("=")) {
+                String chave = arg.substring(0, arg.indexOf('='));
+                if (!PADROES.containsKey(chave)) {
+                    throw new IllegalArgumentException("Opção desconhecida: " + chave + ". Opções: " + PADROES.keySet());
+                }
+                opcoes.put(chave, arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+
+        GeradorDeDados.Parametros parametros = new GeradorDeDados.Parametros(
+                Long.parseLong(opcoes.get("semente")),
+                Integer.parseInt(opcoes.get("empresas")),
+                Integer.parseInt(opcoes.get("fornecedores")),
+                Double.parseDouble(opcoes.get("densidade")),
+                Integer.parseInt(opcoes.get("ceps")),
+                Double.parseDouble(opcoes.get("parana")),
+                Double.parseDouble(opcoes.get("pessoaFisica")),
+                Double.parseDouble(opcoes.get("menores")));
+        int concorrencia = Integer.parseInt(opcoes.get("concorrencia"));
+        Duration aquecimento = Duration.parse(opcoes.get("aquecimento"));
+        Duration duracao = Duration.parse(opcoes.get("duracao"));
+        List<Cenario> cenarios = Arrays.stream(opcoes.get("cenarios").split(",")).map(Cenario::of).toList();
+
+        GeradorDeDados dados = new GeradorDeDados(parametros);
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        Map<String, Object> relatorio = new LinkedHashMap<>();
+        relatorio.put("parametros", opcoes);
+
+        try (ViaCepStub viaCep = new ViaCepStub()
+                .latencia(Duration.ofMillis(Long.parseLong(opcoes.get("latencia"))))
+                .variacao(Duration.ofMillis(Long.parseLong(opcoes.get("variacao"))))) {
+            dados.cepsDoParana().forEach(cep -> viaCep.uf(cep, "PR"));
+
+            List<String> argumentos = new ArrayList<>(List.of(
+                    "--server.port=0",
+                    "--cep.api.url=" + viaCep.baseUrl(),
+                    "--localidade.backfill.enabled=false",
+                    "--logging.level.root=WARN",
+                    "--logging.level.com.desafio.backend.api.config.ConsultasConfig=ERROR",
+                    // com taxa de erro no stub, cada falha do ViaCEP viraria uma linha de log
+                    "--logging.level.com.desafio.backend.domain.service.CepService=OFF"));
+            argumentos.addAll(argumentosDaAplicacao);
+            ConfigurableApplicationContext contexto = new SpringApplicationBuilder(BackendApplication.class)
+                    .run(argumentos.toArray(String[]::new));
+            ExecutorService clientes = Executors.newFixedThreadPool(concorrencia, runnable -> {
+                Thread thread = new Thread(runnable, "carga-cliente");
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                String base = "http://127.0.0.1:" + ((WebServerApplicationContext) contexto).getWebServer().getPort();
+                HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+                long inicio = System.nanoTime();
+                Massa massa = gravarMassa(http, base, objectMapper, dados, parametros, clientes,
+                        Double.parseDouble(opcoes.get("cepsNovos")));
+                Map<String, Object> gravada = new LinkedHashMap<>();
+                gravada.put("empresas", massa.empresaIds().size());
+                gravada.put("fornecedores", massa.fornecedorIds().size());
+                gravada.put("associacoes", dados.associacoes().stream().mapToInt(List::size).sum());
+                gravada.put("duracaoMs", (System.nanoTime() - inicio) / 1_000_000);
+                relatorio.put("massa", gravada);
+
+                viaCep.taxaDeErro(Double.parseDouble(opcoes.get("erros")));
+                List<Map<String, Object>> resultados = new ArrayList<>();
+                for (Cenario cenario : cenarios) {
+                    rodar(cenario, http, base, objectMapper, massa, parametros.semente(), concorrencia, clientes, aquecimento);
+                    Medicoes medicoes = rodar(cenario, http, base, objectMapper, massa, parametros.semente(),
+                            concorrencia, clientes, duracao);
+                    Map<String, Object> resultado = new LinkedHashMap<>();
+                    resultado.put("cenario", cenario.nome());
+                    resultado.put("duracaoMs", duracao.toMillis());
+                    resultado.put("requisicoes", medicoes.total());
+                    resultado.put("erros", medicoes.erros());
+                    resultado.put("requisicoesPorSegundo", medicoes.total() * 1000.0 / duracao.toMillis());
+                    resultado.put("endpoints", medicoes.resumir(duracao));
+                    resultados.add(resultado);
+                    System.out.printf("%s: %d requisições (%.1f/s), %d erros%n", cenario.nome(), medicoes.total(),
+                            medicoes.total() * 1000.0 / duracao.toMillis(), medicoes.erros());
+                    medicoes.resumir(duracao).forEach(endpoint -> System.out.printf(
+                            "  %-40s %7d req %5d erros  p50 %7.1f  p95 %7.1f  p99 %7.1f ms%n", endpoint.endpoint(),
+                            endpoint.requisicoes(), endpoint.erros(), endpoint.p50Ms(), endpoint.p95Ms(), endpoint.p99Ms()));
+                }
+                relatorio.put("cenarios", resultados);
+                relatorio.put("consultasAoViaCep", viaCep.consultas());
+            } finally {
+                clientes.shutdownNow();
+                contexto.close();
+            }
+        }
+
+        Path saida = Path.of("target", "carga-api.json");
+        Files.createDirectories(saida.getParent());
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(saida.toFile(), relatorio);
+        System.out.println("Resultado gravado em " + saida.toAbsolutePath());
+    }
+
+    /**
+     * Importa empresas e fornecedores, descobre os ids pela exportação e grava as associações em paralelo.
+     */
+    private static Massa gravarMassa(HttpClient http, String base, ObjectMapper objectMapper, GeradorDeDados dados,
+                                     GeradorDeDados.Parametros parametros, ExecutorService clientes,
+                                     double fracaoCepsNovos) throws Exception {
+        importar(http, base + "/api/empresas/importacao", objectMapper, dados.empresas());
+        importar(http, base + "/api/fornecedores/importacao", objectMapper, dados.fornecedores());
+
+        Map<String, Long> empresaIds = exportar(http, base + "/api/empresas/exportacao?formato=ndjson", objectMapper, "cnpj");
+        Map<String, Long> fornecedorIds = exportar(http, base + "/api/fornecedores/exportacao?formato=ndjson",
+                objectMapper, "identificadorFiscal");
+
+        List<Long> empresas = new ArrayList<>();
+        List<Future<Integer>> associacoes = new ArrayList<>();
+        for (int i = 0; i < dados.empresas().size(); i++) {
+            Long empresaId = empresaIds.get(dados.empresas().get(i).cnpj());
+            if (empresaId == null) {
+                continue;
+            }
+            empresas.add(empresaId);
+            List<Long> ids = dados.associacoes().get(i).stream()
+                    .map(indice -> fornecedorIds.get(dados.fornecedores().get(indice).identificadorFiscal()))
+                    .filter(Objects::nonNull)
+                    .toList();
+            if (!ids.isEmpty()) {
+                HttpRequest requisicao = HttpRequest.newBuilder(URI.create(base + "/api/empresas/" + empresaId + "/fornecedores"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(ids)))
+                        .build();
+                associacoes.add(clientes.submit(() -> http.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode()));
+            }
+        }
+        int falhas = 0;
+        for (Future<Integer> associacao : associacoes) {
+            if (associacao.get() != 204) {
+                falhas++;
+            }
+        }
+        if (falhas > 0) {
+            System.out.println(falhas + " empresas não puderam ser associadas aos seus fornecedores.");
+        }
+
+        LocalDate hoje = LocalDate.now();
+        List<Long> fornecedores = new ArrayList<>();
+        List<Long> adultos = new ArrayList<>();
+        for (GeradorDeDados.Fornecedor fornecedor : dados.fornecedores()) {
+            Long id = fornecedorIds.get(fornecedor.identificadorFiscal());
+            if (id != null) {
+                fornecedores.add(id);
+                if (!fornecedor.menor(hoje)) {
+                    adultos.add(id);
+                }
+            }
+        }
+        System.out.printf("Massa gravada: %d de %d empresas e %d de %d fornecedores.%n",
+                empresas.size(), parametros.empresas(), fornecedores.size(), parametros.fornecedores());
+        return new Massa(List.copyOf(empresas), List.copyOf(fornecedores), List.copyOf(adultos), dados.ceps(), fracaoCepsNovos);
+    }
+
+    private static Medicoes rodar(Cenario cenario, HttpClient http, String base, ObjectMapper objectMapper, Massa massa,
+                                  long semente, int concorrencia, ExecutorService clientes, Duration duracao)
+            throws Exception {
+        long fim = System.nanoTime() + duracao.toNanos();
+        List<Future<Medicoes>> sessoes = new ArrayList<>(concorrencia);
+        for (int i = 0; i < concorrencia; i++) {
+            Sessao sessao = new Sessao(http, base, objectMapper, massa, semente * 31 + cenario.ordinal() * 1000L + i);
+            sessoes.add(clientes.submit(() -> {
+                while (System.nanoTime() < fim && !Thread.currentThread().isInterrupted()) {
+                    cenario.sortear(sessao.random).executar(sessao);
+                }
+                return sessao.medicoes;
+            }));
+        }
+        Medicoes medicoes = new Medicoes();
+        for (Future<Medicoes> sessao : sessoes) {
+            medicoes.juntar(sessao.get());
+        }
+        return medicoes;
+    }
+
+    private static void importar(HttpClient http, String url, ObjectMapper objectMapper, List<?> registros)
+            throws IOException, InterruptedException {
+        StringBuilder corpo = new StringBuilder();
+        for (Object registro : registros) {
+            corpo.append(objectMapper.writeValueAsString(registro)).append('\n');
+        }
+        HttpResponse<String> resposta = http.send(HttpRequest.newBuilder(URI.create(url))
+                        .header("Content-Type", "application/x-ndjson")
+                        .POST(HttpRequest.BodyPublishers.ofString(corpo.toString()))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        JsonNode resultado = objectMapper.readTree(resposta.body());
+        if (resposta.statusCode() != 200 || resultado.path("rejeitadas").asInt() > 0) {
+            System.out.println("Importação em " + url + " retornou " + resposta.statusCode() + ": " + resposta.body());
+        }
+    }
+
+    private static Map<String, Long> exportar(HttpClient http, String url, ObjectMapper objectMapper, String chave)
+            throws IOException, InterruptedException {
+        HttpResponse<Stream<String>> resposta = http.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.ofLines());
+        Map<String, Long> ids = new HashMap<>();
+        for (String linha : resposta.body().filter(linha -> !linha.isBlank()).collect(Collectors.toList())) {
+            JsonNode registro = objectMapper.readTree(linha);
+            ids.put(registro.path(chave).asText(), registro.path("id").asLong());
+        }
+        return ids;
+    }
+
+    private static Map<String, String> padroes(String... pares) {
+        Map<String, String> padroes = new LinkedHashMap<>();
+        for (int i = 0; i < pares.length; i += 2) {
+            padroes.put(pares[i], pares[i + 1]);
+        }
+        return padroes;
+    }
+}
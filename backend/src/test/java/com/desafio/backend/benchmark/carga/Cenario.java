@@ -0,0 +1,60 @@
+package com.desafio.backend.benchmark.carga;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static com.desafio.backend.benchmark.carga.Operacao.*;
+
+/**
+ * Mistura de operações de cada cenário, com o peso relativo de cada uma.
+ */
+enum Cenario {
+
+    LEITURA(pesos(LISTAR_EMPRESAS, 20, FILTRAR_EMPRESAS, 15, BUSCAR_EMPRESA, 15, LISTAR_FORNECEDORES, 15,
+            FILTRAR_FORNECEDORES, 10, PAGINAR_FORNECEDORES, 10, SUGERIR_FORNECEDORES, 10, BUSCAR_FORNECEDOR, 5)),
+    ESCRITA(pesos(CRIAR_EMPRESA, 30, CRIAR_FORNECEDOR, 30, ASSOCIAR_EMPRESAS, 25, REMOVER_FORNECEDOR, 15)),
+    MISTO(pesos(LISTAR_EMPRESAS, 16, FILTRAR_EMPRESAS, 12, BUSCAR_EMPRESA, 12, LISTAR_FORNECEDORES, 12,
+            FILTRAR_FORNECEDORES, 8, PAGINAR_FORNECEDORES, 8, SUGERIR_FORNECEDORES, 8, BUSCAR_FORNECEDOR, 4,
+            CRIAR_EMPRESA, 6, CRIAR_FORNECEDOR, 6, ASSOCIAR_EMPRESAS, 5, REMOVER_FORNECEDOR, 3));
+
+    private final Operacao[] operacoes;
+    private final int[] acumulados;
+
+    Cenario(Map<Operacao, Integer> pesos) {
+        operacoes = pesos.keySet().toArray(Operacao[]::new);
+        acumulados = new int[operacoes.length];
+        int total = 0;
+        for (int i = 0; i < operacoes.length; i++) {
+            total += pesos.get(operacoes[i]);
+            acumulados[i] = total;
+        }
+    }
+
+    Operacao sortear(Random random) {
+        int valor = random.nextInt(acumulados[acumulados.length - 1]);
+        for (int i = 0; i < acumulados.length; i++) {
+            if (valor < acumulados[i]) {
+                return operacoes[i];
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    String nome() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    static Cenario of(String nome) {
+        return valueOf(nome.strip().toUpperCase(Locale.ROOT));
+    }
+
+    private static Map<Operacao, Integer> pesos(Object... pares) {
+        Map<Operacao, Integer> pesos = new EnumMap<>(Operacao.class);
+        for (int i = 0; i < pares.length; i += 2) {
+            pesos.put((Operacao) pares[i], (Integer) pares[i + 1]);
+        }
+        return pesos;
+    }
+}
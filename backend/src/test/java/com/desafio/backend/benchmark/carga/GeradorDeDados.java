@@ -0,0 +1,124 @@
+package com.desafio.backend.benchmark.carga;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Dados sintéticos para a carga. A mesma semente gera sempre as mesmas empresas, fornecedores, CEPs e
+ * associações. Os CEPs vêm de um conjunto fixo, com parte deles no Paraná; os fornecedores misturam
+ * pessoa física e jurídica, com uma fração de menores de idade entre as pessoas físicas. As associações
+ * seguem a densidade pedida (fração média de fornecedores por empresa) e nunca ligam um menor a uma
+ * empresa do Paraná, para que a carga inicial não esbarre na regra de negócio.
+ */
+public class GeradorDeDados {
+
+    static final String[] PALAVRAS = {"Alfa", "Brasil", "Central", "Delta", "Estrela", "Forte", "Global", "Horizonte",
+            "Ideal", "Jardim", "Líder", "Master", "Nova", "Ouro", "Prime", "Real", "Sul", "Total", "União", "Vale"};
+    private static final String[] RAMOS = {"Comércio", "Serviços", "Indústria", "Logística", "Alimentos", "Tecnologia",
+            "Construções", "Distribuidora"};
+    private static final String[] NOMES = {"Ana", "Bruno", "Carla", "Diego", "Elisa", "Fábio", "Gabriela", "Hugo",
+            "Isabela", "João", "Larissa", "Marcos", "Natália", "Otávio", "Paula", "Rafael", "Sofia", "Tiago"};
+    private static final String[] SOBRENOMES = {"Almeida", "Barbosa", "Cardoso", "Dias", "Ferreira", "Gomes",
+            "Lima", "Martins", "Oliveira", "Pereira", "Ribeiro", "Santos", "Souza", "Teixeira"};
+
+    private final List<String> ceps;
+    private final Set<String> cepsDoParana = new LinkedHashSet<>();
+    private final List<Empresa> empresas;
+    private final List<Fornecedor> fornecedores;
+    private final List<List<Integer>> associacoes;
+
+    public GeradorDeDados(Parametros parametros) {
+        Random random = new Random(parametros.semente());
+        LocalDate hoje = LocalDate.now();
+
+        Set<String> distintos = new LinkedHashSet<>();
+        while (distintos.size() < parametros.cepsDistintos()) {
+            boolean parana = random.nextDouble() < parametros.fracaoParana();
+            String cep = parana
+                    ? String.format("%08d", 80_000_000 + random.nextInt(8_000_000))
+                    : String.format("%08d", 1_000_000 + random.nextInt(79_000_000));
+            if (distintos.add(cep) && parana) {
+                cepsDoParana.add(cep);
+            }
+        }
+        ceps = List.copyOf(distintos);
+
+        empresas = new ArrayList<>(parametros.empresas());
+        for (int i = 0; i < parametros.empresas(); i++) {
+            empresas.add(new Empresa(String.format("1%013d", i),
+                    PALAVRAS[random.nextInt(PALAVRAS.length)] + " " + RAMOS[random.nextInt(RAMOS.length)] + " " + i,
+                    ceps.get(random.nextInt(ceps.size()))));
+        }
+
+        fornecedores = new ArrayList<>(parametros.fornecedores());
+        for (int i = 0; i < parametros.fornecedores(); i++) {
+            String cep = ceps.get(random.nextInt(ceps.size()));
+            if (random.nextDouble() < parametros.fracaoPessoaFisica()) {
+                int idade = random.nextDouble() < parametros.fracaoMenores() ? 14 + random.nextInt(4) : 18 + random.nextInt(58);
+                String nome = NOMES[random.nextInt(NOMES.length)] + " " + SOBRENOMES[random.nextInt(SOBRENOMES.length)];
+                String cpf = String.format("1%010d", i);
+                fornecedores.add(new Fornecedor("FISICA", cpf, nome + " " + i, "pf" + cpf + "@carga.test", cep,
+                        String.format("%09d", i), hoje.minusYears(idade).minusDays(random.nextInt(365))));
+            } else {
+                String cnpj = String.format("3%013d", i);
+                String nome = PALAVRAS[random.nextInt(PALAVRAS.length)] + " " + RAMOS[random.nextInt(RAMOS.length)] + " Ltda " + i;
+                fornecedores.add(new Fornecedor("JURIDICA", cnpj, nome, "pj" + cnpj + "@carga.test", cep, null, null));
+            }
+        }
+
+        associacoes = new ArrayList<>(parametros.empresas());
+        double media = parametros.densidade() * parametros.fornecedores();
+        for (Empresa empresa : empresas) {
+            int quantidade = Math.min(parametros.fornecedores(), (int) Math.round(media * (0.5 + random.nextDouble())));
+            boolean parana = cepsDoParana.contains(empresa.cep());
+            Set<Integer> escolhidos = new LinkedHashSet<>();
+            for (int tentativas = 0; escolhidos.size() < quantidade && tentativas < quantidade * 4; tentativas++) {
+                int indice = random.nextInt(parametros.fornecedores());
+                if (!(parana && fornecedores.get(indice).menor(hoje))) {
+                    escolhidos.add(indice);
+                }
+            }
+            associacoes.add(List.copyOf(escolhidos));
+        }
+    }
+
+    public List<String> ceps() {
+        return ceps;
+    }
+
+    public Set<String> cepsDoParana() {
+        return cepsDoParana;
+    }
+
+    public List<Empresa> empresas() {
+        return empresas;
+    }
+
+    public List<Fornecedor> fornecedores() {
+        return fornecedores;
+    }
+
+    /**
+     * Índices (em {@link #fornecedores()}) dos fornecedores de cada empresa, na ordem de {@link #empresas()}.
+     */
+    public List<List<Integer>> associacoes() {
+        return associacoes;
+    }
+
+    public record Parametros(long semente, int empresas, int fornecedores, double densidade, int cepsDistintos,
+                             double fracaoParana, double fracaoPessoaFisica, double fracaoMenores) {}
+
+    public record Empresa(String cnpj, String nomeFantasia, String cep) {}
+
+    public record Fornecedor(String tipoPessoa, String identificadorFiscal, String nome, String email, String cep,
+                             String rg, LocalDate dataNascimento) {
+
+        boolean menor(LocalDate hoje) {
+            return dataNascimento != null && dataNascimento.isAfter(hoje.minusYears(18));
+        }
+    }
+}
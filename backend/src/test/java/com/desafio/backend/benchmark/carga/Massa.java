@@ -0,0 +1,23 @@
+package com.desafio.backend.benchmark.carga;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ids gravados na carga inicial, compartilhados pelos clientes. Fornecedores criados durante a rodada
+ * entram em {@link #criados()} e são os únicos que as operações de escrita associam e removem, para que
+ * a massa inicial continue igual ao longo de toda a execução.
+ */
+record Massa(List<Long> empresaIds, List<Long> fornecedorIds, List<Long> adultoIds, List<String> ceps,
+             double fracaoCepsNovos, Queue<Long> criados, AtomicLong sequencia) {
+
+    Massa(List<Long> empresaIds, List<Long> fornecedorIds, List<Long> adultoIds, List<String> ceps, double fracaoCepsNovos) {
+        this(empresaIds, fornecedorIds, adultoIds, ceps, fracaoCepsNovos, new ConcurrentLinkedQueue<>(), new AtomicLong());
+    }
+
+    int paginas(List<Long> ids, int tamanho) {
+        return Math.max(1, ids.size() / tamanho);
+    }
+}
@@ -0,0 +1,86 @@
+package com.desafio.backend.benchmark.carga;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latências por endpoint. Cada cliente grava na sua própria instância, sem sincronização, e as
+ * instâncias são juntadas no fim da rodada.
+ */
+class Medicoes {
+
+    private final Map<String, Serie> series = new TreeMap<>();
+
+    void registrar(String endpoint, long nanos, boolean erro) {
+        series.computeIfAbsent(endpoint, chave -> new Serie()).adicionar(nanos, erro);
+    }
+
+    void juntar(Medicoes outras) {
+        outras.series.forEach((endpoint, serie) -> series.computeIfAbsent(endpoint, chave -> new Serie()).juntar(serie));
+    }
+
+    List<Endpoint> resumir(Duration duracao) {
+        List<Endpoint> resumo = new ArrayList<>(series.size());
+        series.forEach((endpoint, serie) -> resumo.add(serie.resumir(endpoint, duracao)));
+        return resumo;
+    }
+
+    int total() {
+        return series.values().stream().mapToInt(serie -> serie.tamanho).sum();
+    }
+
+    int erros() {
+        return series.values().stream().mapToInt(serie -> serie.erros).sum();
+    }
+
+    private static final class Serie {
+
+        private long[] latencias = new long[1024];
+        private int tamanho;
+        private int erros;
+
+        void adicionar(long nanos, boolean erro) {
+            if (tamanho == latencias.length) {
+                latencias = Arrays.copyOf(latencias, tamanho * 2);
+            }
+            latencias[tamanho++] = nanos;
+            if (erro) {
+                erros++;
+            }
+        }
+
+        void juntar(Serie outra) {
+            for (int i = 0; i < outra.tamanho; i++) {
+                adicionar(outra.latencias[i], false);
+            }
+            erros += outra.erros;
+        }
+
+        Endpoint resumir(String endpoint, Duration duracao) {
+            long[] ordenadas = Arrays.copyOf(latencias, tamanho);
+            Arrays.sort(ordenadas);
+            return new Endpoint(endpoint, tamanho, erros,
+                    tamanho * 1_000_000_000.0 / duracao.toNanos(),
+                    percentil(ordenadas, 0.50), percentil(ordenadas, 0.95), percentil(ordenadas, 0.99),
+                    ordenadas.length == 0 ? 0 : ordenadas[ordenadas.length - 1] / 1_000_000.0);
+        }
+
+        /**
+         * Percentil pelo método do posto mais próximo, em milissegundos.
+         */
+        private static double percentil(long[] ordenadas, double fracao) {
+            if (ordenadas.length == 0) {
+                return 0;
+            }
+            int posto = (int) Math.ceil(fracao * ordenadas.length);
+            return ordenadas[Math.max(posto, 1) - 1] / 1_000_000.0;
+        }
+    }
+
+    public record Endpoint(String endpoint, int requisicoes, int erros, double requisicoesPorSegundo,
+                           double p50Ms, double p95Ms, double p99Ms, double maxMs) {}
+}
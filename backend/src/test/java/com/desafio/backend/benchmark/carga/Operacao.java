@@ -0,0 +1,172 @@
+package com.desafio.backend.benchmark.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.URLEncoder;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Operações que os cenários sorteiam. Cada uma envia uma ou mais requisições, medidas pelo modelo do
+ * endpoint (sem ids nem filtros), para que os percentis de um endpoint juntem todas as chamadas a ele.
+ */
+enum Operacao {
+
+    LISTAR_EMPRESAS {
+        @Override
+        void executar(Sessao sessao) {
+            int pagina = sessao.random.nextInt(sessao.massa.paginas(sessao.massa.empresaIds(), TAMANHO_PAGINA));
+            sessao.get("GET /api/empresas", "/api/empresas?size=" + TAMANHO_PAGINA + "&page=" + pagina);
+        }
+    },
+    FILTRAR_EMPRESAS {
+        @Override
+        void executar(Sessao sessao) {
+            sessao.get("GET /api/empresas?nomeFantasia", "/api/empresas?size=" + TAMANHO_PAGINA + "&nomeFantasia=" + codificar(sessao.termo()));
+        }
+    },
+    BUSCAR_EMPRESA {
+        @Override
+        void executar(Sessao sessao) {
+            sessao.get("GET /api/empresas/{id}", "/api/empresas/" + sessao.sortear(sessao.massa.empresaIds()));
+        }
+    },
+    LISTAR_FORNECEDORES {
+        @Override
+        void executar(Sessao sessao) {
+            int pagina = sessao.random.nextInt(sessao.massa.paginas(sessao.massa.fornecedorIds(), TAMANHO_PAGINA));
+            sessao.get("GET /api/fornecedores", "/api/fornecedores?size=" + TAMANHO_PAGINA + "&page=" + pagina);
+        }
+    },
+    FILTRAR_FORNECEDORES {
+        @Override
+        void executar(Sessao sessao) {
+            sessao.get("GET /api/fornecedores?nome", "/api/fornecedores?size=" + TAMANHO_PAGINA + "&nome=" + codificar(sessao.termo()));
+        }
+    },
+    PAGINAR_FORNECEDORES {
+        @Override
+        void executar(Sessao sessao) {
+            String caminho = "/api/fornecedores/cursor?size=" + TAMANHO_PAGINA + "&nome=" + codificar(sessao.termo());
+            String depois = null;
+            for (int pagina = 0; pagina < 3; pagina++) {
+                HttpResponse<String> resposta = sessao.get("GET /api/fornecedores/cursor",
+                        depois == null ? caminho : caminho + "&after=" + codificar(depois));
+                if (resposta == null || resposta.statusCode() != 200) {
+                    return;
+                }
+                JsonNode corpo = sessao.ler(resposta);
+                if (!corpo.path("hasNext").asBoolean()) {
+                    return;
+                }
+                depois = corpo.path("next").asText();
+            }
+        }
+    },
+    SUGERIR_FORNECEDORES {
+        @Override
+        void executar(Sessao sessao) {
+            String prefixo = sessao.termo().substring(0, 3).toLowerCase(Locale.ROOT);
+            sessao.get("GET /api/fornecedores/typeahead", "/api/fornecedores/typeahead?q=" + codificar(prefixo));
+        }
+    },
+    BUSCAR_FORNECEDOR {
+        @Override
+        void executar(Sessao sessao) {
+            sessao.get("GET /api/fornecedores/{id}", "/api/fornecedores/" + sessao.sortear(sessao.massa.fornecedorIds()));
+        }
+    },
+    CRIAR_EMPRESA {
+        @Override
+        void executar(Sessao sessao) {
+            long n = sessao.massa.sequencia().incrementAndGet();
+            Set<Long> fornecedorIds = new LinkedHashSet<>();
+            for (int i = 0; i < 3; i++) {
+                fornecedorIds.add(sessao.sortear(sessao.massa.adultoIds()));
+            }
+            Map<String, Object> empresa = new LinkedHashMap<>();
+            empresa.put("cnpj", String.format("2%013d", n));
+            empresa.put("nomeFantasia", sessao.termo() + " Carga " + n);
+            empresa.put("cep", sessao.cep());
+            empresa.put("fornecedorIds", fornecedorIds);
+            sessao.post("POST /api/empresas", "/api/empresas", empresa);
+        }
+    },
+    CRIAR_FORNECEDOR {
+        @Override
+        void executar(Sessao sessao) {
+            Long fornecedorId = criarFornecedor(sessao);
+            if (fornecedorId != null) {
+                sessao.massa.criados().offer(fornecedorId);
+            }
+        }
+    },
+    ASSOCIAR_EMPRESAS {
+        @Override
+        void executar(Sessao sessao) {
+            Long fornecedorId = sessao.massa.criados().poll();
+            if (fornecedorId == null && (fornecedorId = criarFornecedor(sessao)) == null) {
+                return;
+            }
+            Set<Long> empresaIds = new LinkedHashSet<>();
+            for (int i = 0; i < 2; i++) {
+                empresaIds.add(sessao.sortear(sessao.massa.empresaIds()));
+            }
+            sessao.post("POST /api/fornecedores/{id}/empresas", "/api/fornecedores/" + fornecedorId + "/empresas", empresaIds);
+            sessao.delete("DELETE /api/fornecedores/{id}/empresas",
+                    "/api/fornecedores/" + fornecedorId + "/empresas?ids=" + Sessao.ids(empresaIds));
+            sessao.massa.criados().offer(fornecedorId);
+        }
+    },
+    REMOVER_FORNECEDOR {
+        @Override
+        void executar(Sessao sessao) {
+            Long fornecedorId = sessao.massa.criados().poll();
+            if (fornecedorId == null && (fornecedorId = criarFornecedor(sessao)) == null) {
+                return;
+            }
+            sessao.delete("DELETE /api/fornecedores/{id}", "/api/fornecedores/" + fornecedorId);
+        }
+    };
+
+    static final int TAMANHO_PAGINA = 20;
+
+    abstract void executar(Sessao sessao);
+
+    /**
+     * Cria um fornecedor maior de idade (ou pessoa jurídica), sem empresas. Quem cria decide se ele volta
+     * para {@link Massa#criados()}.
+     */
+    private static Long criarFornecedor(Sessao sessao) {
+        long n = sessao.massa.sequencia().incrementAndGet();
+        Map<String, Object> fornecedor = new LinkedHashMap<>();
+        if (sessao.random.nextBoolean()) {
+            String cpf = String.format("2%010d", n);
+            fornecedor.put("tipoPessoa", "FISICA");
+            fornecedor.put("identificadorFiscal", cpf);
+            fornecedor.put("rg", String.format("%09d", n));
+            fornecedor.put("dataNascimento", LocalDate.now().minusYears(18 + sessao.random.nextInt(50)).toString());
+        } else {
+            fornecedor.put("tipoPessoa", "JURIDICA");
+            fornecedor.put("identificadorFiscal", String.format("4%013d", n));
+        }
+        fornecedor.put("nome", sessao.termo() + " Carga " + n);
+        fornecedor.put("email", "carga" + n + "@carga.test");
+        fornecedor.put("cep", sessao.cep());
+        HttpResponse<String> resposta = sessao.post("POST /api/fornecedores", "/api/fornecedores", fornecedor);
+        if (resposta == null || resposta.statusCode() != 201) {
+            return null;
+        }
+        return sessao.ler(resposta).path("id").asLong();
+    }
+
+    private static String codificar(String valor) {
+        return URLEncoder.encode(valor, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,100 @@
+package com.desafio.backend.benchmark.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Estado de um cliente da carga: gerador aleatório próprio (a sequência de operações depende só da
+ * semente) e as medições das requisições que ele enviou, agrupadas pelo modelo do endpoint.
+ */
+class Sessao {
+
+    private final HttpClient http;
+    private final String base;
+    private final ObjectMapper objectMapper;
+    final Massa massa;
+    final Random random;
+    final Medicoes medicoes = new Medicoes();
+
+    Sessao(HttpClient http, String base, ObjectMapper objectMapper, Massa massa, long semente) {
+        this.http = http;
+        this.base = base;
+        this.objectMapper = objectMapper;
+        this.massa = massa;
+        this.random = new Random(semente);
+    }
+
+    HttpResponse<String> get(String endpoint, String caminho) {
+        return enviar(endpoint, HttpRequest.newBuilder(URI.create(base + caminho)).GET());
+    }
+
+    HttpResponse<String> post(String endpoint, String caminho, Object corpo) {
+        return enviar(endpoint, HttpRequest.newBuilder(URI.create(base + caminho))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(corpo))));
+    }
+
+    HttpResponse<String> delete(String endpoint, String caminho) {
+        return enviar(endpoint, HttpRequest.newBuilder(URI.create(base + caminho)).DELETE());
+    }
+
+    JsonNode ler(HttpResponse<String> resposta) {
+        try {
+            return objectMapper.readTree(resposta.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    <T> T sortear(List<T> valores) {
+        return valores.get(random.nextInt(valores.size()));
+    }
+
+    String termo() {
+        return GeradorDeDados.PALAVRAS[random.nextInt(GeradorDeDados.PALAVRAS.length)];
+    }
+
+    String cep() {
+        return random.nextDouble() < massa.fracaoCepsNovos()
+                ? String.format("%08d", 1_000_000 + random.nextInt(98_000_000))
+                : sortear(massa.ceps());
+    }
+
+    static String ids(Collection<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private HttpResponse<String> enviar(String endpoint, HttpRequest.Builder requisicao) {
+        long inicio = System.nanoTime();
+        try {
+            HttpResponse<String> resposta = http.send(requisicao.build(), HttpResponse.BodyHandlers.ofString());
+            medicoes.registrar(endpoint, System.nanoTime() - inicio, resposta.statusCode() >= 400);
+            return resposta;
+        } catch (IOException e) {
+            medicoes.registrar(endpoint, System.nanoTime() - inicio, true);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private String json(Object corpo) {
+        try {
+            return objectMapper.writeValueAsString(corpo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
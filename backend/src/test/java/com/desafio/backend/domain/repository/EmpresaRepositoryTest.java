@@ -0,0 +1,85 @@
+package com.desafio.backend.domain.repository;
+
+import com.desafio.backend.domain.model.Empresa;
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.model.FornecedorPessoaJuridica;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class EmpresaRepositoryTest {
+
+    @Autowired
+    private EmpresaRepository empresaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Empresa alfa;
+    private Empresa beta;
+    private Fornecedor fornecedor;
+
+    @BeforeEach
+    void setUp() {
+        fornecedor = new FornecedorPessoaJuridica();
+        fornecedor.setIdentificadorFiscal("11222333000181");
+        fornecedor.setNome("Fornecedor");
+        fornecedor.setEmail("fornecedor@example.com");
+        fornecedor.setCep("80010000");
+        entityManager.persist(fornecedor);
+
+        alfa = empresa("12345678000190", "Alfa Comércio", "80010000");
+        alfa.getFornecedores().add(fornecedor);
+        beta = empresa("98765432000110", "Beta Serviços", "01001000");
+        entityManager.persist(alfa);
+        entityManager.persist(beta);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("findAll should filter by nome fantasia prefix, CNPJ prefix and CEP")
+    void findAll_ShouldFilterBySpecification() {
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("id"));
+
+        Page<Empresa> porNome = empresaRepository.findAll(EmpresaSpecification.filterBy("alf", null, null), pageable);
+        Page<Empresa> porCnpj = empresaRepository.findAll(EmpresaSpecification.filterBy(null, "9876", null), pageable);
+        Page<Empresa> porCep = empresaRepository.findAll(EmpresaSpecification.filterBy(null, null, "01001000"), pageable);
+        Page<Empresa> todas = empresaRepository.findAll(EmpresaSpecification.filterBy(null, null, null), pageable);
+
+        assertEquals(List.of(alfa.getId()), porNome.map(Empresa::getId).getContent());
+        assertEquals(List.of(beta.getId()), porCnpj.map(Empresa::getId).getContent());
+        assertEquals(List.of(beta.getId()), porCep.map(Empresa::getId).getContent());
+        assertEquals(2, todas.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("findFornecedorIdsByEmpresaIdIn should return the association pairs of the given empresas")
+    void findFornecedorIdsByEmpresaIdIn_ShouldReturnPairs() {
+        List<Object[]> pares = empresaRepository.findFornecedorIdsByEmpresaIdIn(Set.of(alfa.getId(), beta.getId()));
+
+        assertEquals(1, pares.size());
+        assertEquals(alfa.getId(), ((Number) pares.get(0)[0]).longValue());
+        assertEquals(fornecedor.getId(), ((Number) pares.get(0)[1]).longValue());
+    }
+
+    private static Empresa empresa(String cnpj, String nomeFantasia, String cep) {
+        Empresa empresa = new Empresa();
+        empresa.setCnpj(cnpj);
+        empresa.setNomeFantasia(nomeFantasia);
+        empresa.setCep(cep);
+        return empresa;
+    }
+}
@@ -0,0 +1,28 @@
+package com.desafio.backend.domain.repository;
+
+import com.desafio.backend.domain.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FornecedorCursorTest {
+
+    @Test
+    @DisplayName("decode should restore the cursor produced by encode")
+    void decode_ShouldRestoreEncodedCursor() {
+        FornecedorCursor cursor = new FornecedorCursor("Ação: Comércio & Cia", 42L);
+
+        String token = cursor.encode();
+
+        assertFalse(token.contains("Ação"));
+        assertEquals(cursor, FornecedorCursor.decode(token));
+    }
+
+    @Test
+    @DisplayName("decode should throw BusinessException when the token is malformed")
+    void decode_ShouldThrowBusinessException_WhenTokenIsMalformed() {
+        assertThrows(BusinessException.class, () -> FornecedorCursor.decode("não-é-base64"));
+        assertThrows(BusinessException.class, () -> FornecedorCursor.decode("YWJj"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.desafio.backend.domain.repository;
+
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.model.FornecedorPessoaFisica;
+import com.desafio.backend.domain.model.FornecedorPessoaJuridica;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(ListagemRepository.class)
+class ListagemRepositoryTest {
+
+    @Autowired
+    private ListagemRepository listagemRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        FornecedorPessoaFisica pessoaFisica = new FornecedorPessoaFisica();
+        pessoaFisica.setIdentificadorFiscal("12345678909");
+        pessoaFisica.setNome("Listagem Física");
+        pessoaFisica.setEmail("fisica@example.com");
+        pessoaFisica.setCep("80010000");
+        pessoaFisica.setRg("123456789");
+        pessoaFisica.setDataNascimento(LocalDate.of(1990, 5, 20));
+        entityManager.persist(pessoaFisica);
+
+        for (int i = 0; i < 2; i++) {
+            Fornecedor pessoaJuridica = new FornecedorPessoaJuridica();
+            pessoaJuridica.setIdentificadorFiscal("1122233300018" + i);
+            pessoaJuridica.setNome("Listagem Jurídica " + i);
+            pessoaJuridica.setEmail("juridica" + i + "@example.com");
+            pessoaJuridica.setCep("01001000");
+            entityManager.persist(pessoaJuridica);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("listar should project both subtypes, filter, page and leave the persistence context empty")
+    void listar_ShouldProjectSubtypes_WithoutManagingEntities() {
+        Page<FornecedorResumo> pagina = listagemRepository.listar(Fornecedor.class, FornecedorResumo.class,
+                FornecedorResumo::colunas, FornecedorSpecification.filterBy("listagem", null),
+                PageRequest.of(0, 2, Sort.by("nome")));
+
+        assertEquals(3, pagina.getTotalElements());
+        assertEquals(2, pagina.getContent().size());
+
+        FornecedorResumo fisica = pagina.getContent().get(0);
+        assertEquals(FornecedorPessoaFisica.class, fisica.tipo());
+        assertEquals("123456789", fisica.rg());
+        assertEquals(LocalDate.of(1990, 5, 20), fisica.dataNascimento());
+
+        FornecedorResumo juridica = pagina.getContent().get(1);
+        assertEquals(FornecedorPessoaJuridica.class, juridica.tipo());
+        assertEquals("Listagem Jurídica 0", juridica.nome());
+        assertNull(juridica.rg());
+        assertNull(juridica.dataNascimento());
+
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+}
@@ -0,0 +1,183 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.domain.exception.BusinessException;
+import com.desafio.backend.domain.exception.ResourceNotFoundException;
+import com.desafio.backend.domain.model.Empresa;
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.model.FornecedorPessoaFisica;
+import com.desafio.backend.domain.model.FornecedorPessoaJuridica;
+import com.desafio.backend.domain.repository.EmpresaRepository;
+import com.desafio.backend.domain.repository.ListagemRepository;
+import com.desafio.backend.domain.repository.VersaoRepository;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@Import({EmpresaService.class, FornecedorService.class, ExclusaoService.class, EntidadeCache.class, VersaoRepository.class, ListagemRepository.class})
+class AssociacaoTest {
+
+    @Autowired
+    private EmpresaService empresaService;
+
+    @Autowired
+    private FornecedorService fornecedorService;
+
+    @Autowired
+    private EmpresaRepository empresaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private CepService cepService;
+
+    @MockitoBean
+    private FornecedorPrefixIndex prefixIndex;
+
+    private Empresa empresa;
+    private Fornecedor juridica;
+    private Fornecedor maior;
+    private Fornecedor menor;
+
+    @BeforeEach
+    void setUp() {
+        juridica = persistir(new FornecedorPessoaJuridica(), "11222333000181");
+        maior = persistir(pessoaFisica(LocalDate.now().minusYears(30)), "12345678901");
+        menor = persistir(pessoaFisica(LocalDate.now().minusYears(16)), "10987654321");
+
+        empresa = new Empresa();
+        empresa.setCnpj("12345678000190");
+        empresa.setNomeFantasia("Empresa");
+        empresa.setCep("80010000");
+        empresa.getFornecedores().add(juridica);
+        entityManager.persist(empresa);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("associarFornecedores should insert only missing links and desassociarFornecedores should remove them")
+    void associarFornecedores_ShouldChangeJoinTable() {
+        empresaService.associarFornecedores(empresa.getId(), Set.of(juridica.getId(), maior.getId()));
+
+        assertEquals(Set.of(juridica.getId(), maior.getId()), fornecedorIds());
+
+        empresaService.desassociarFornecedores(empresa.getId(), Set.of(juridica.getId()));
+
+        assertEquals(Set.of(maior.getId()), fornecedorIds());
+        verifyNoInteractions(cepService);
+    }
+
+    @Test
+    @DisplayName("associarFornecedores should bump updatedAt on both sides without loading the entities")
+    void associarFornecedores_ShouldBumpUpdatedAt_WithoutLoadingEntities() {
+        OffsetDateTime antes = entityManager.find(Empresa.class, empresa.getId()).getUpdatedAt();
+        entityManager.clear();
+
+        empresaService.associarFornecedores(empresa.getId(), Set.of(maior.getId()));
+
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+        assertTrue(entityManager.find(Empresa.class, empresa.getId()).getUpdatedAt().isAfter(antes));
+        assertTrue(entityManager.find(Fornecedor.class, maior.getId()).getUpdatedAt().isAfter(antes));
+    }
+
+    @Test
+    @DisplayName("associarFornecedores should reject minors for a Paraná empresa without touching the join table")
+    void associarFornecedores_ShouldRejectMinor_WhenEmpresaIsInParana() {
+        when(cepService.anyParana(List.of("80010000"))).thenReturn(true);
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> empresaService.associarFornecedores(empresa.getId(), Set.of(maior.getId(), menor.getId())));
+
+        assertEquals(FornecedorService.MENOR_NO_PARANA, exception.getMessage());
+        assertEquals(Set.of(juridica.getId()), fornecedorIds());
+    }
+
+    @Test
+    @DisplayName("associarFornecedores should read the stored uf instead of looking up the CEP")
+    void associarFornecedores_ShouldUseStoredUf_WhenEmpresaIsFilled() {
+        Empresa curitiba = new Empresa();
+        curitiba.setCnpj("12345678000270");
+        curitiba.setNomeFantasia("Empresa Curitiba");
+        curitiba.setCep("80010000");
+        curitiba.setUf("PR");
+        curitiba.setCidade("Curitiba");
+        entityManager.persist(curitiba);
+        entityManager.flush();
+
+        assertThrows(BusinessException.class,
+                () -> empresaService.associarFornecedores(curitiba.getId(), Set.of(menor.getId())));
+        assertThrows(BusinessException.class,
+                () -> fornecedorService.associarEmpresas(menor.getId(), Set.of(empresa.getId(), curitiba.getId())));
+        verifyNoInteractions(cepService);
+    }
+
+    @Test
+    @DisplayName("associarEmpresas should reject a minor when any empresa is in Paraná")
+    void associarEmpresas_ShouldRejectMinor_WhenAnyEmpresaIsInParana() {
+        when(cepService.anyParana(anyCollection())).thenReturn(true);
+
+        assertThrows(BusinessException.class,
+                () -> fornecedorService.associarEmpresas(menor.getId(), Set.of(empresa.getId())));
+
+        fornecedorService.associarEmpresas(maior.getId(), Set.of(empresa.getId()));
+        assertEquals(Set.of(juridica.getId(), maior.getId()), fornecedorIds());
+
+        fornecedorService.desassociarEmpresas(maior.getId(), Set.of(empresa.getId()));
+        assertEquals(Set.of(juridica.getId()), fornecedorIds());
+    }
+
+    @Test
+    @DisplayName("associarEmpresas should report the ids that do not exist")
+    void associarEmpresas_ShouldThrowNotFound_WhenEmpresaIsMissing() {
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> fornecedorService.associarEmpresas(maior.getId(), Set.of(empresa.getId(), -1L)));
+
+        assertTrue(exception.getMessage().endsWith("[-1]"));
+        assertThrows(ResourceNotFoundException.class,
+                () -> empresaService.associarFornecedores(-1L, Set.of(maior.getId())));
+        assertThrows(BusinessException.class,
+                () -> empresaService.associarFornecedores(empresa.getId(), Set.of()));
+    }
+
+    private Set<Long> fornecedorIds() {
+        Set<Long> ids = new HashSet<>();
+        for (Object[] par : empresaRepository.findFornecedorIdsByEmpresaIdIn(List.of(empresa.getId()))) {
+            ids.add(((Number) par[1]).longValue());
+        }
+        return ids;
+    }
+
+    private Fornecedor persistir(Fornecedor fornecedor, String identificadorFiscal) {
+        fornecedor.setIdentificadorFiscal(identificadorFiscal);
+        fornecedor.setNome("Fornecedor " + identificadorFiscal);
+        fornecedor.setEmail(identificadorFiscal + "@example.com");
+        fornecedor.setCep("80010000");
+        return entityManager.persist(fornecedor);
+    }
+
+    private static FornecedorPessoaFisica pessoaFisica(LocalDate dataNascimento) {
+        FornecedorPessoaFisica fornecedor = new FornecedorPessoaFisica();
+        fornecedor.setRg("1234567");
+        fornecedor.setDataNascimento(dataNascimento);
+        return fornecedor;
+    }
+}
@@ -0,0 +1,104 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.api.dto.CepResponseDTO;
+import com.desafio.backend.domain.model.CepEndereco;
+import com.desafio.backend.domain.repository.CepEnderecoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CepCacheTest {
+
+    @Mock
+    private CepEnderecoRepository cepEnderecoRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CepCache cepCache;
+
+    private final CepResponseDTO endereco =
+            new CepResponseDTO("80010-000", "Praça Tiradentes", "", "Centro", "Curitiba", "PR", null);
+
+    @BeforeEach
+    void setUp() {
+        cepCache = new CepCache(cepEnderecoRepository, transactionManager, 100, Duration.ofHours(1), 100, Duration.ofMinutes(1), Duration.ofDays(30));
+    }
+
+    @Test
+    @DisplayName("buscar should serve registered CEPs from memory without touching the persistent tier")
+    void buscar_ShouldServeFromMemory_AfterRegistrar() {
+        cepCache.registrar("80010000", endereco);
+
+        Optional<CepResponseDTO> result = cepCache.buscar("80010000");
+
+        assertEquals(Optional.of(endereco), result);
+        verify(cepEnderecoRepository, times(1)).save(any(CepEndereco.class));
+        verify(cepEnderecoRepository, never()).findById(any());
+        assertEquals(1, cepCache.estatisticas().hits());
+    }
+
+    @Test
+    @DisplayName("registrar should keep the CEP in memory when the persistent write fails on commit")
+    void registrar_ShouldNotFail_WhenCommitFails() {
+        doThrow(new DataIntegrityViolationException("duplicate key")).when(transactionManager).commit(any());
+
+        assertDoesNotThrow(() -> cepCache.registrar("80010000", endereco));
+
+        assertEquals(Optional.of(endereco), cepCache.buscar("80010000"));
+        verify(cepEnderecoRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("buscar should promote fresh persisted CEPs to memory")
+    void buscar_ShouldPromotePersistedEntry() {
+        CepEndereco persistido = new CepEndereco();
+        persistido.setCep("80010000");
+        persistido.setLocalidade("Curitiba");
+        persistido.setUf("PR");
+        persistido.setConsultadoEm(OffsetDateTime.now().minusDays(1));
+        when(cepEnderecoRepository.findById("80010000")).thenReturn(Optional.of(persistido));
+
+        assertEquals("PR", cepCache.buscar("80010000").map(CepResponseDTO::uf).orElse(null));
+        assertEquals("80010-000", cepCache.buscar("80010000").map(CepResponseDTO::cep).orElse(null));
+
+        verify(cepEnderecoRepository, times(1)).findById("80010000");
+        assertEquals(1, cepCache.estatisticas().persistentHits());
+    }
+
+    @Test
+    @DisplayName("buscar should ignore persisted CEPs older than the persistent TTL")
+    void buscar_ShouldIgnoreStalePersistedEntry() {
+        CepEndereco persistido = new CepEndereco();
+        persistido.setCep("80010000");
+        persistido.setConsultadoEm(OffsetDateTime.now().minusDays(31));
+        when(cepEnderecoRepository.findById("80010000")).thenReturn(Optional.of(persistido));
+
+        assertTrue(cepCache.buscar("80010000").isEmpty());
+        assertEquals(1, cepCache.estatisticas().persistentMisses());
+    }
+
+    @Test
+    @DisplayName("registrarInexistente should mark the CEP as negative until a successful lookup replaces it")
+    void registrarInexistente_ShouldBeOverriddenByRegistrar() {
+        cepCache.registrarInexistente("99999999");
+        assertTrue(cepCache.isInexistente("99999999"));
+
+        cepCache.registrar("99999999", endereco);
+        assertFalse(cepCache.isInexistente("99999999"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.desafio.backend.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CepRegionIndexTest {
+
+    private final CepRegionIndex cepRegionIndex = new CepRegionIndex();
+
+    @Test
+    @DisplayName("ufOf should resolve CEPs at the boundaries of the bundled ranges")
+    void ufOf_ShouldResolveRangeBoundaries() {
+        assertEquals("SP", cepRegionIndex.ufOf("01000000"));
+        assertEquals("PR", cepRegionIndex.ufOf("80000000"));
+        assertEquals("PR", cepRegionIndex.ufOf("87999999"));
+        assertEquals("SC", cepRegionIndex.ufOf("88000000"));
+        assertEquals("RR", cepRegionIndex.ufOf("69300000"));
+        assertEquals("AM", cepRegionIndex.ufOf("69400000"));
+        assertEquals("RS", cepRegionIndex.ufOf("99999999"));
+    }
+
+    @Test
+    @DisplayName("ufOf should ignore formatting characters")
+    void ufOf_ShouldIgnoreFormatting() {
+        assertEquals("PR", cepRegionIndex.ufOf("80010-000"));
+    }
+
+    @Test
+    @DisplayName("ufOf should return null for malformed CEPs or CEPs outside known ranges")
+    void ufOf_ShouldReturnNull_WhenUnknown() {
+        assertNull(cepRegionIndex.ufOf(null));
+        assertNull(cepRegionIndex.ufOf("8001000"));
+        assertNull(cepRegionIndex.ufOf("800100001"));
+        assertNull(cepRegionIndex.ufOf("00999999"));
+        assertNull(cepRegionIndex.ufOf("78950000"));
+    }
+
+    @Test
+    @DisplayName("constructor should reject overlapping ranges")
+    void constructor_ShouldRejectOverlappingRanges() {
+        List<CepRegionIndex.Faixa> faixas = List.of(
+                new CepRegionIndex.Faixa(80000000, 87999999, "PR"),
+                new CepRegionIndex.Faixa(87000000, 89999999, "SC"));
+
+        assertThrows(IllegalStateException.class, () -> new CepRegionIndex(faixas));
+    }
+}
@@ -0,0 +1,163 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.api.dto.CepResponseDTO;
+import com.desafio.backend.domain.repository.CepEnderecoRepository;
+import com.desafio.backend.support.ViaCepStub;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class CepServiceTest {
+
+    private ViaCepStub viaCep;
+    private ThreadPoolTaskExecutor executor;
+    private ViaCepClient viaCepClient;
+    private CepCache cepCache;
+    private CepService cepService;
+
+    @BeforeEach
+    void setUp() {
+        viaCep = new ViaCepStub().latencia(Duration.ofMillis(300));
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.initialize();
+
+        cepCache = new CepCache(mock(CepEnderecoRepository.class), mock(PlatformTransactionManager.class), 100, Duration.ofHours(1), 100, Duration.ofMinutes(1), Duration.ofDays(30));
+        viaCepClient = new ViaCepClient(new RestTemplateBuilder(), viaCep.baseUrl(),
+                Duration.ofSeconds(1), Duration.ofSeconds(10), 20, Duration.ofMillis(100), 5, Duration.ofSeconds(30),
+                false, Duration.ofMillis(50), executor);
+        cepService = new CepService(viaCepClient, cepCache, new CepRegionIndex(), executor, executor,
+                Duration.ofSeconds(10), Duration.ofSeconds(2), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        viaCep.close();
+    }
+
+    @Test
+    @DisplayName("resolveAll should query each distinct CEP once and in parallel")
+    void resolveAll_ShouldDeduplicateAndRunConcurrently() {
+        viaCep.inexistente("01001999");
+        List<String> ceps = List.of("01001000", "01001-000", "20040020", "30130010", "40020000", "01001999", "123");
+
+        long inicio = System.nanoTime();
+        Map<String, CepResponseDTO> resolvidos = cepService.resolveAll(ceps);
+        Duration duracao = Duration.ofNanos(System.nanoTime() - inicio);
+
+        assertEquals(4, resolvidos.size());
+        assertTrue(resolvidos.containsKey("01001000"));
+        assertFalse(resolvidos.containsKey("01001999"));
+        assertEquals(1, viaCep.consultas("01001000"));
+        assertEquals(5, viaCep.consultas());
+        assertTrue(duracao.compareTo(Duration.ofMillis(1000)) < 0, "Consultas deveriam rodar em paralelo, levaram " + duracao);
+    }
+
+    @Test
+    @DisplayName("consultarCep should send concurrent lookups of the same CEP upstream only once")
+    void consultarCep_ShouldCoalesceConcurrentLookups() throws Exception {
+        ExecutorService clientes = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Optional<CepResponseDTO>>> respostas = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                respostas.add(clientes.submit(() -> cepService.consultarCep("01001000")));
+            }
+            for (Future<Optional<CepResponseDTO>> resposta : respostas) {
+                assertEquals("01001-000", resposta.get().orElseThrow().cep());
+            }
+        } finally {
+            clientes.shutdown();
+        }
+
+        assertEquals(1, viaCep.consultas("01001000"));
+    }
+
+    @Test
+    @DisplayName("resolveAll should return what was resolved when the total deadline expires")
+    void resolveAll_ShouldStopAtDeadline() {
+        viaCep.latencia(Duration.ofSeconds(5));
+
+        long inicio = System.nanoTime();
+        Map<String, CepResponseDTO> resolvidos = cepService.resolveAll(List.of("01001000", "20040020"));
+
+        assertTrue(resolvidos.isEmpty());
+        assertTrue(Duration.ofNanos(System.nanoTime() - inicio).compareTo(Duration.ofSeconds(4)) < 0);
+    }
+
+    @Test
+    @DisplayName("a batch giving up on a CEP should not fail callers waiting on the same lookup")
+    void resolveAll_ShouldNotCancelLookupSharedWithOtherCallers() throws Exception {
+        viaCep.latencia(Duration.ofSeconds(3));
+        ExecutorService clientes = Executors.newSingleThreadExecutor();
+        try {
+            Future<Map<String, CepResponseDTO>> lote = clientes.submit(() -> cepService.resolveAll(List.of("01001000", "20040020")));
+            Thread.sleep(500);
+            Optional<CepResponseDTO> endereco = cepService.consultarCep("01001000");
+
+            assertTrue(lote.get().isEmpty());
+            assertEquals("01001-000", endereco.orElseThrow().cep());
+        } finally {
+            clientes.shutdown();
+        }
+
+        assertEquals(1, viaCep.consultas("01001000"));
+    }
+
+    @Test
+    @DisplayName("resolveAll should leave CEPs rejected by a full lookup pool unresolved instead of running them inline")
+    void resolveAll_ShouldSkipRejectedLookups() {
+        ThreadPoolTaskExecutor lotado = new ThreadPoolTaskExecutor();
+        lotado.setCorePoolSize(1);
+        lotado.setMaxPoolSize(1);
+        lotado.setQueueCapacity(0);
+        lotado.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        lotado.initialize();
+        try {
+            CepService comPoolLotado = new CepService(viaCepClient, cepCache, new CepRegionIndex(), lotado, executor,
+                    Duration.ofSeconds(10), Duration.ofSeconds(2), new SimpleMeterRegistry());
+
+            Map<String, CepResponseDTO> resolvidos = comPoolLotado.resolveAll(List.of("01001000", "20040020", "30130010"));
+
+            assertEquals(1, resolvidos.size());
+            assertTrue(resolvidos.containsKey("01001000"));
+            assertEquals(1, viaCep.consultas());
+        } finally {
+            lotado.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("anyParana should answer from the region index without remote lookups")
+    void anyParana_ShouldUseRegionIndex() {
+        assertTrue(cepService.anyParana(List.of("01001000", "80010000")));
+        assertFalse(cepService.anyParana(List.of("01001000", "88015600")));
+        assertEquals(0, viaCep.consultas());
+    }
+
+    @Test
+    @DisplayName("anyParana should fall back to parallel remote lookups for CEPs outside known ranges")
+    void anyParana_ShouldFallBackToRemoteLookup() {
+        viaCep.uf("78950000", "PR");
+
+        assertTrue(cepService.anyParana(List.of("78950000", "78960000")));
+    }
+}
@@ -0,0 +1,57 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.domain.repository.EmpresaRepository;
+import com.desafio.backend.domain.repository.FornecedorRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmpresaServiceTest {
+
+    @Mock
+    private EmpresaRepository empresaRepository;
+
+    @Mock
+    private FornecedorRepository fornecedorRepository;
+
+    @Mock
+    private CepService cepService;
+
+    @InjectMocks
+    private EmpresaService empresaService;
+
+    @Test
+    @DisplayName("buscarFornecedorIds should group fornecedor ids of the whole page with a single query")
+    void buscarFornecedorIds_ShouldGroupIds_WithSingleQuery() {
+        when(empresaRepository.findFornecedorIdsByEmpresaIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                new Object[]{1L, 10L},
+                new Object[]{1L, 11L},
+                new Object[]{2L, 10L}));
+
+        Map<Long, Set<Long>> result = empresaService.buscarFornecedorIds(List.of(1L, 2L, 3L));
+
+        assertEquals(Set.of(10L, 11L), result.get(1L));
+        assertEquals(Set.of(10L), result.get(2L));
+        assertNull(result.get(3L));
+        verify(empresaRepository, times(1)).findFornecedorIdsByEmpresaIdIn(any());
+    }
+
+    @Test
+    @DisplayName("buscarFornecedorIds should not query when the page is empty")
+    void buscarFornecedorIds_ShouldNotQuery_WhenPageIsEmpty() {
+        assertTrue(empresaService.buscarFornecedorIds(List.of()).isEmpty());
+        verifyNoInteractions(empresaRepository);
+    }
+}
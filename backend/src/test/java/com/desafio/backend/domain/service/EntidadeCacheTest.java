@@ -0,0 +1,118 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.domain.model.Empresa;
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.model.FornecedorPessoaJuridica;
+import com.desafio.backend.support.ViaCepStub;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class EntidadeCacheTest {
+
+    private static final ViaCepStub viaCep = new ViaCepStub();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("cep.api.url", viaCep::baseUrl);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        viaCep.close();
+    }
+
+    @Autowired
+    private EmpresaService empresaService;
+
+    @Autowired
+    private FornecedorService fornecedorService;
+
+    @Autowired
+    private EntidadeCache entidadeCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("buscarPorId should be served from the second-level cache after the first read")
+    void buscarPorId_ShouldHitCache_OnSecondRead() {
+        Fornecedor fornecedor = fornecedorService.salvar(fornecedor("55000000000001"), null);
+        Empresa empresa = empresaService.salvar(empresa("55000000000100"), Set.of(fornecedor.getId()));
+        entityManagerFactory.getCache().evictAll();
+
+        empresaService.buscarPorId(empresa.getId());
+        long consultas = statistics.getPrepareStatementCount();
+        Empresa cacheada = empresaService.buscarPorId(empresa.getId());
+
+        assertEquals(consultas, statistics.getPrepareStatementCount(), "A segunda leitura não deveria ir ao banco");
+        assertEquals(Set.of(fornecedor.getId()), ids(cacheada.getFornecedores()));
+        assertTrue(entidadeCache.estatisticas().regioes().stream()
+                .anyMatch(regiao -> regiao.nome().equals("empresas") && regiao.hits() > 0));
+    }
+
+    @Test
+    @DisplayName("association changes and deletes should not leave stale collections in the cache")
+    void cache_ShouldStayConsistent_ThroughAssociationChangesAndDeletes() {
+        Fornecedor primeiro = fornecedorService.salvar(fornecedor("55000000000002"), null);
+        Fornecedor segundo = fornecedorService.salvar(fornecedor("55000000000003"), null);
+        Empresa empresa = empresaService.salvar(empresa("55000000000200"), Set.of(primeiro.getId()));
+        empresaService.buscarPorId(empresa.getId());
+        fornecedorService.buscarPorId(segundo.getId());
+
+        empresaService.associarFornecedores(empresa.getId(), Set.of(segundo.getId()));
+        assertEquals(Set.of(primeiro.getId(), segundo.getId()), ids(empresaService.buscarPorId(empresa.getId()).getFornecedores()));
+        assertEquals(Set.of(empresa.getId()), ids(fornecedorService.buscarPorId(segundo.getId()).getEmpresas()));
+
+        fornecedorService.desassociarEmpresas(primeiro.getId(), Set.of(empresa.getId()));
+        assertEquals(Set.of(segundo.getId()), ids(empresaService.buscarPorId(empresa.getId()).getFornecedores()));
+
+        fornecedorService.deletar(segundo.getId());
+        assertTrue(empresaService.buscarPorId(empresa.getId()).getFornecedores().isEmpty());
+
+        empresaService.deletar(empresa.getId());
+        assertTrue(fornecedorService.buscarPorId(primeiro.getId()).getEmpresas().isEmpty());
+    }
+
+    private static Set<Long> ids(Set<? extends com.desafio.backend.domain.model.BaseEntity> entidades) {
+        return entidades.stream().map(com.desafio.backend.domain.model.BaseEntity::getId).collect(Collectors.toSet());
+    }
+
+    private static Fornecedor fornecedor(String identificadorFiscal) {
+        Fornecedor fornecedor = new FornecedorPessoaJuridica();
+        fornecedor.setIdentificadorFiscal(identificadorFiscal);
+        fornecedor.setNome("Cacheado " + identificadorFiscal);
+        fornecedor.setEmail(identificadorFiscal + "@example.com");
+        fornecedor.setCep("01001000");
+        return fornecedor;
+    }
+
+    private static Empresa empresa(String cnpj) {
+        Empresa empresa = new Empresa();
+        empresa.setCnpj(cnpj);
+        empresa.setNomeFantasia("Cacheada " + cnpj);
+        empresa.setCep("01001000");
+        return empresa;
+    }
+}
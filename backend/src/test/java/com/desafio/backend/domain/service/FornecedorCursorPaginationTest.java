@@ -0,0 +1,94 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.api.config.ContadorDeConsultas;
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.model.FornecedorPessoaJuridica;
+import com.desafio.backend.domain.repository.FornecedorCursor;
+import com.desafio.backend.domain.repository.FornecedorResumo;
+import com.desafio.backend.domain.repository.ListagemRepository;
+import com.desafio.backend.domain.repository.VersaoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Window;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.desafio.backend.api.config.ContadorDeConsultas")
+@Import({FornecedorService.class, ExclusaoService.class, EntidadeCache.class, VersaoRepository.class, ListagemRepository.class})
+class FornecedorCursorPaginationTest {
+
+    @Autowired
+    private FornecedorService fornecedorService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private CepService cepService;
+
+    @MockitoBean
+    private FornecedorPrefixIndex prefixIndex;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 23; i++) {
+            // nomes repetidos forçam o desempate por id
+            entityManager.persist(fornecedor("Fornecedor " + (char) ('A' + i % 5), i));
+        }
+        entityManager.persist(fornecedor("Outro", 99));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("listarPorCursor should walk every filtered row once, in nome/id order")
+    void listarPorCursor_ShouldWalkAllRowsInOrder() {
+        List<FornecedorResumo> vistos = new ArrayList<>();
+        FornecedorCursor cursor = null;
+        Window<FornecedorResumo> window;
+        do {
+            window = fornecedorService.listarPorCursor("forn", null, cursor, 10);
+            vistos.addAll(window.getContent());
+            cursor = window.isEmpty() ? null : FornecedorCursor.of(window.getContent().get(window.size() - 1));
+        } while (window.hasNext());
+
+        assertEquals(23, vistos.size());
+        assertEquals(23, vistos.stream().map(FornecedorResumo::id).distinct().count());
+        for (int i = 1; i < vistos.size(); i++) {
+            FornecedorResumo anterior = vistos.get(i - 1);
+            FornecedorResumo atual = vistos.get(i);
+            int comparacao = anterior.nome().compareTo(atual.nome());
+            assertTrue(comparacao < 0 || (comparacao == 0 && anterior.id() < atual.id()));
+        }
+    }
+
+    @Test
+    @DisplayName("listarPorCursor should bound the next page with a range start on nome")
+    void listarPorCursor_ShouldUseSargableLeadingBound() {
+        String sql;
+        try (ContadorDeConsultas.Escopo escopo = ContadorDeConsultas.abrir()) {
+            fornecedorService.listarPorCursor("forn", null, new FornecedorCursor("Fornecedor B", 1L), 10);
+            sql = String.join("\n", escopo.porFormato().keySet());
+        }
+
+        assertTrue(sql.matches("(?s).*\\w+\\.nome>=\\? and \\(\\w+\\.nome>\\? or .*"), sql);
+    }
+
+    private static Fornecedor fornecedor(String nome, int sequencia) {
+        Fornecedor fornecedor = new FornecedorPessoaJuridica();
+        fornecedor.setNome(nome);
+        fornecedor.setIdentificadorFiscal(String.format("%014d", sequencia));
+        fornecedor.setEmail("fornecedor" + sequencia + "@example.com");
+        fornecedor.setCep("80010000");
+        return fornecedor;
+    }
+}
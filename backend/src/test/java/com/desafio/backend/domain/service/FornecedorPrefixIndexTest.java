@@ -0,0 +1,96 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.model.FornecedorPessoaJuridica;
+import com.desafio.backend.domain.repository.FornecedorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class FornecedorPrefixIndexTest {
+
+    private FornecedorRepository fornecedorRepository;
+    private FornecedorPrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        fornecedorRepository = mock(FornecedorRepository.class);
+        when(fornecedorRepository.findIndexRowsAfter(eq(0L), any())).thenReturn(List.of(
+                new Object[]{1L, "Açougue São João", "12345678000190"},
+                new Object[]{2L, "Acme Ltda", "98765432000110"},
+                new Object[]{3L, "Beta Serviços", "12399988800"},
+                new Object[]{4L, "acougue central", "55544433322"}));
+        index = new FornecedorPrefixIndex(fornecedorRepository, 3);
+        index.carregar();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.encerrar();
+    }
+
+    @Test
+    @DisplayName("sugerir should match nome prefixes ignoring case and accents, ordered by nome")
+    void sugerir_ShouldMatchNomeIgnoringCaseAndAccents() {
+        assertEquals(List.of(4L, 1L), ids(index.sugerir("AÇOU", 10)));
+        assertEquals(List.of(2L, 4L, 1L), ids(index.sugerir("ac", 10)));
+        assertEquals(List.of(2L), ids(index.sugerir("ac", 1)));
+        assertEquals("Açougue São João", index.sugerir("acougue sao", 10).get(0).nome());
+        assertTrue(index.sugerir("zzz", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("sugerir should search identificadorFiscal when the term starts with a digit")
+    void sugerir_ShouldSearchIdentificadorFiscal_WhenTermIsNumeric() {
+        assertEquals(List.of(1L, 3L), ids(index.sugerir("123", 10)));
+        assertEquals(List.of(1L), ids(index.sugerir("12.345.678/0001", 10)));
+    }
+
+    @Test
+    @DisplayName("registrar and remover should be visible immediately and survive compaction")
+    void registrarRemover_ShouldOverrideBase() throws InterruptedException {
+        index.registrar(fornecedor(5L, "Acerola Distribuidora", "11122233344"));
+        index.registrar(fornecedor(2L, "Zeta Ltda", "98765432000110"));
+        index.remover(4L);
+
+        assertEquals(List.of(5L, 1L), ids(index.sugerir("ac", 10)));
+        assertEquals(List.of(2L), ids(index.sugerir("zeta", 10)));
+
+        aguardarCompactacao();
+        assertEquals(4, index.estatisticas().registros());
+        assertEquals(List.of(5L, 1L), ids(index.sugerir("ac", 10)));
+        assertEquals(List.of(2L), ids(index.sugerir("987", 10)));
+    }
+
+    private void aguardarCompactacao() throws InterruptedException {
+        long limite = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (index.estatisticas().pendentes() > 0 && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, index.estatisticas().pendentes());
+    }
+
+    private static List<Long> ids(List<FornecedorPrefixIndex.Sugestao> sugestoes) {
+        List<Long> ids = new ArrayList<>();
+        sugestoes.forEach(s -> ids.add(s.id()));
+        return ids;
+    }
+
+    private static Fornecedor fornecedor(Long id, String nome, String identificadorFiscal) {
+        Fornecedor fornecedor = new FornecedorPessoaJuridica();
+        fornecedor.setId(id);
+        fornecedor.setNome(nome);
+        fornecedor.setIdentificadorFiscal(identificadorFiscal);
+        return fornecedor;
+    }
+}
@@ -0,0 +1,116 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.api.dto.CepResponseDTO;
+import com.desafio.backend.domain.model.Empresa;
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.model.FornecedorPessoaJuridica;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "localidade.backfill.batch-size=2")
+@Import(LocalidadeBackfill.class)
+class LocalidadeBackfillTest {
+
+    private static final Map<String, CepResponseDTO> ENDERECOS = Map.of(
+            "80010000", new CepResponseDTO("80010-000", "Praça Tiradentes", "", "Centro", "Curitiba", "pr", null),
+            "01001000", new CepResponseDTO("01001-000", "Praça da Sé", "", "Sé", "São Paulo", "SP", null));
+
+    @Autowired
+    private LocalidadeBackfill backfill;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private CepService cepService;
+
+    private Empresa curitiba;
+    private Empresa saoPaulo;
+    private Empresa inexistente;
+    private Empresa preenchida;
+    private Fornecedor fornecedor;
+
+    @BeforeEach
+    void setUp() {
+        curitiba = empresa("33000000000101", "80010000");
+        saoPaulo = empresa("33000000000102", "01001000");
+        inexistente = empresa("33000000000103", "99999999");
+        preenchida = empresa("33000000000104", "88015600");
+        preenchida.setUf("SC");
+        preenchida.setCidade("Florianópolis");
+
+        fornecedor = new FornecedorPessoaJuridica();
+        fornecedor.setIdentificadorFiscal("33000000000199");
+        fornecedor.setNome("Fornecedor Backfill");
+        fornecedor.setEmail("backfill@example.com");
+        fornecedor.setCep("80010000");
+        entityManager.persist(fornecedor);
+        entityManager.flush();
+        entityManager.clear();
+
+        when(cepService.resolveAll(anyCollection())).thenAnswer(invocation -> {
+            Map<String, CepResponseDTO> resolvidos = new HashMap<>();
+            for (String cep : invocation.<Collection<String>>getArgument(0)) {
+                if (ENDERECOS.containsKey(cep)) {
+                    resolvidos.put(cep, ENDERECOS.get(cep));
+                }
+            }
+            return resolvidos;
+        });
+    }
+
+    @Test
+    @DisplayName("preencher should fill uf and cidade in batches and leave unresolved rows for the next run")
+    void preencher_ShouldFillPendingRows_AndSkipUnresolved() {
+        LocalidadeBackfill.Preenchimento preenchimento = backfill.preencher();
+
+        assertEquals(2, preenchimento.empresas());
+        assertEquals(1, preenchimento.fornecedores());
+        assertLocalidade(entityManager.find(Empresa.class, curitiba.getId()), "PR", "Curitiba");
+        assertLocalidade(entityManager.find(Empresa.class, saoPaulo.getId()), "SP", "São Paulo");
+        assertLocalidade(entityManager.find(Empresa.class, inexistente.getId()), null, null);
+        assertLocalidade(entityManager.find(Empresa.class, preenchida.getId()), "SC", "Florianópolis");
+        assertLocalidade(entityManager.find(Fornecedor.class, fornecedor.getId()), "PR", "Curitiba");
+        verify(cepService, never()).resolveAll(argThat(ceps -> ceps.contains("88015600")));
+
+        LocalidadeBackfill.Preenchimento repeticao = backfill.preencher();
+
+        assertEquals(0, repeticao.empresas());
+        assertEquals(0, repeticao.fornecedores());
+    }
+
+    private void assertLocalidade(Empresa empresa, String uf, String cidade) {
+        assertEquals(uf, empresa.getUf());
+        assertEquals(cidade, empresa.getCidade());
+    }
+
+    private void assertLocalidade(Fornecedor fornecedor, String uf, String cidade) {
+        assertEquals(uf, fornecedor.getUf());
+        assertEquals(cidade, fornecedor.getCidade());
+    }
+
+    private Empresa empresa(String cnpj, String cep) {
+        Empresa empresa = new Empresa();
+        empresa.setCnpj(cnpj);
+        empresa.setNomeFantasia("Backfill " + cnpj);
+        empresa.setCep(cep);
+        return entityManager.persist(empresa);
+    }
+}
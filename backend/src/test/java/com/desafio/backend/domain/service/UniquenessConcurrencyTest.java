@@ -0,0 +1,121 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.domain.exception.RestricaoUnica;
+import com.desafio.backend.domain.model.Fornecedor;
+import com.desafio.backend.domain.model.FornecedorPessoaJuridica;
+import com.desafio.backend.domain.repository.FornecedorRepository;
+import com.desafio.backend.support.ViaCepStub;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class UniquenessConcurrencyTest {
+
+    private static final int ESCRITAS = 8;
+    private static final ViaCepStub viaCep = new ViaCepStub();
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("cep.api.url", viaCep::baseUrl);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        viaCep.close();
+    }
+
+    @Autowired
+    private FornecedorService fornecedorService;
+
+    @Autowired
+    private FornecedorRepository fornecedorRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("salvar should let exactly one of many parallel duplicate inserts through")
+    void salvar_ShouldAcceptOnlyOne_WhenDuplicatesRaceInParallel() throws Exception {
+        List<RestricaoUnica> porIdentificador = salvarEmParalelo(i -> fornecedor("44000000000001", "dup" + i + "@example.com"));
+        List<RestricaoUnica> porEmail = salvarEmParalelo(i -> fornecedor(String.format("440000000001%02d", i), "mesmo@example.com"));
+
+        assertEquals(ESCRITAS - 1, porIdentificador.size());
+        assertTrue(porIdentificador.stream().allMatch(RestricaoUnica.FORNECEDOR_IDENTIFICADOR_FISCAL::equals));
+        assertEquals(ESCRITAS - 1, porEmail.size());
+        assertTrue(porEmail.stream().allMatch(RestricaoUnica.FORNECEDOR_EMAIL::equals));
+        assertTrue(fornecedorRepository.findByIdentificadorFiscal("44000000000001").isPresent());
+    }
+
+    @Test
+    @DisplayName("adicionar should answer a duplicate CNPJ with the business message")
+    void adicionar_ShouldReturnBadRequest_WhenCnpjIsDuplicated() throws Exception {
+        String empresa = """
+                {"cnpj": "44000000000900", "nomeFantasia": "Unica", "cep": "01001000"}
+                """;
+        mockMvc.perform(post("/api/empresas").contentType(MediaType.APPLICATION_JSON).content(empresa))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/empresas").contentType(MediaType.APPLICATION_JSON).content(empresa))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value(RestricaoUnica.EMPRESA_CNPJ.getMensagem()));
+    }
+
+    private List<RestricaoUnica> salvarEmParalelo(IntFunction<Fornecedor> fornecedor) throws InterruptedException {
+        ExecutorService clientes = Executors.newFixedThreadPool(ESCRITAS);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<Fornecedor>> escritas = new ArrayList<>();
+        for (int i = 0; i < ESCRITAS; i++) {
+            Fornecedor novo = fornecedor.apply(i);
+            escritas.add(clientes.submit(() -> {
+                largada.await();
+                return fornecedorService.salvar(novo, null);
+            }));
+        }
+        largada.countDown();
+
+        List<RestricaoUnica> violacoes = new ArrayList<>();
+        for (Future<Fornecedor> escrita : escritas) {
+            try {
+                assertNotNull(escrita.get().getId());
+            } catch (ExecutionException e) {
+                assertInstanceOf(DataIntegrityViolationException.class, e.getCause());
+                violacoes.add(RestricaoUnica.violadaPor(e.getCause()).orElseThrow());
+            }
+        }
+        clientes.shutdown();
+        return violacoes;
+    }
+
+    private static Fornecedor fornecedor(String identificadorFiscal, String email) {
+        Fornecedor fornecedor = new FornecedorPessoaJuridica();
+        fornecedor.setIdentificadorFiscal(identificadorFiscal);
+        fornecedor.setNome("Concorrente");
+        fornecedor.setEmail(email);
+        fornecedor.setCep("01001000");
+        return fornecedor;
+    }
+}
@@ -0,0 +1,155 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.api.dto.CepResponseDTO;
+import com.desafio.backend.domain.exception.CepIndisponivelException;
+import com.desafio.backend.support.ViaCepStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ViaCepClientTest {
+
+    private ViaCepStub viaCep;
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        viaCep = new ViaCepStub();
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        viaCep.close();
+    }
+
+    private ViaCepClient client(int maxConcurrent, int failureThreshold, Duration openDuration, boolean hedge) {
+        return new ViaCepClient(new RestTemplateBuilder(), viaCep.baseUrl(),
+                Duration.ofSeconds(1), Duration.ofMillis(500), maxConcurrent, Duration.ZERO,
+                failureThreshold, openDuration, hedge, Duration.ofMillis(50), executor);
+    }
+
+    @Test
+    @DisplayName("consultar should distinguish nonexistent CEPs from upstream failures")
+    void consultar_ShouldSeparateNotFoundFromFailures() {
+        ViaCepClient client = client(4, 5, Duration.ofSeconds(30), false);
+        viaCep.inexistente("99999999");
+
+        assertEquals("SP", client.consultar("01001000").map(CepResponseDTO::uf).orElse(null));
+        assertEquals(Optional.empty(), client.consultar("99999999"));
+
+        viaCep.status(503);
+        assertThrows(CepIndisponivelException.class, () -> client.consultar("01001000"));
+        assertEquals(1, client.estatisticas().falhas());
+    }
+
+    @Test
+    @DisplayName("consultar should fail on read timeout")
+    void consultar_ShouldFailOnReadTimeout() {
+        ViaCepClient client = client(4, 5, Duration.ofSeconds(30), false);
+        viaCep.latencias(Duration.ofSeconds(2));
+
+        long inicio = System.nanoTime();
+        assertThrows(CepIndisponivelException.class, () -> client.consultar("01001000"));
+        assertTrue(Duration.ofNanos(System.nanoTime() - inicio).compareTo(Duration.ofMillis(1500)) < 0);
+    }
+
+    @Test
+    @DisplayName("circuit should open after consecutive failures and close after a successful trial call")
+    void circuitBreaker_ShouldOpenAndRecover() throws InterruptedException {
+        ViaCepClient client = client(4, 2, Duration.ofMillis(300), false);
+        viaCep.status(500);
+
+        assertThrows(CepIndisponivelException.class, () -> client.consultar("01001000"));
+        assertThrows(CepIndisponivelException.class, () -> client.consultar("01001000"));
+        assertEquals("ABERTO", client.estatisticas().circuito());
+
+        assertThrows(CepIndisponivelException.class, () -> client.consultar("01001000"));
+        assertEquals(2, viaCep.consultas());
+        assertEquals(1, client.estatisticas().rejeitadasPeloCircuito());
+
+        viaCep.status(200);
+        Thread.sleep(400);
+        assertTrue(client.consultar("01001000").isPresent());
+        assertEquals("FECHADO", client.estatisticas().circuito());
+    }
+
+    @Test
+    @DisplayName("bulkhead should reject calls beyond the concurrency limit without waiting")
+    void bulkhead_ShouldRejectExcessCalls() {
+        ViaCepClient client = client(1, 5, Duration.ofSeconds(30), false);
+        viaCep.latencias(Duration.ofMillis(300));
+
+        CompletableFuture<Optional<CepResponseDTO>> lenta = CompletableFuture.supplyAsync(() -> client.consultar("01001000"), executor);
+        aguardarChamadaEmCurso(client);
+
+        assertThrows(CepIndisponivelException.class, () -> client.consultar("20040020"));
+        assertTrue(lenta.join().isPresent());
+        assertEquals(1, client.estatisticas().rejeitadasPeloBulkhead());
+    }
+
+    @Test
+    @DisplayName("hedging should return the faster second request when the first one is slower than p95")
+    void hedge_ShouldReturnSecondRequest_WhenFirstIsSlow() {
+        ViaCepClient client = client(4, 5, Duration.ofSeconds(30), true);
+        for (int i = 0; i < 20; i++) {
+            client.consultar("01001000");
+        }
+
+        viaCep.latencias(Duration.ofMillis(450));
+        long inicio = System.nanoTime();
+        assertTrue(client.consultar("01001000").isPresent());
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - inicio).compareTo(Duration.ofMillis(300)) < 0);
+        assertEquals(1, client.estatisticas().hedges());
+
+        // a requisição perdedora é interrompida: devolve o bulkhead antes da resposta lenta e não conta como falha
+        aguardarBulkheadLivre(client, Duration.ofMillis(200));
+        assertEquals(0, client.estatisticas().chamadasEmCurso());
+        assertEquals(0, client.estatisticas().falhas());
+        assertEquals("FECHADO", client.estatisticas().circuito());
+    }
+
+    @Test
+    @DisplayName("hedging should not send a second request while the half-open circuit probe is in flight")
+    void hedge_ShouldRespectHalfOpenProbe() throws InterruptedException {
+        ViaCepClient client = client(4, 1, Duration.ofMillis(100), true);
+        viaCep.status(503);
+        assertThrows(CepIndisponivelException.class, () -> client.consultar("01001000"));
+        assertEquals("ABERTO", client.estatisticas().circuito());
+
+        viaCep.status(200).latencias(Duration.ofMillis(400));
+        Thread.sleep(150);
+        assertTrue(client.consultar("01001000").isPresent());
+
+        assertEquals(0, client.estatisticas().hedges());
+        assertEquals(2, viaCep.consultas());
+        assertEquals("FECHADO", client.estatisticas().circuito());
+    }
+
+    private static void aguardarBulkheadLivre(ViaCepClient client, Duration prazo) {
+        long limite = System.nanoTime() + prazo.toNanos();
+        while (client.estatisticas().chamadasEmCurso() > 0 && System.nanoTime() < limite) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void aguardarChamadaEmCurso(ViaCepClient client) {
+        long limite = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (client.estatisticas().chamadasEmCurso() == 0 && System.nanoTime() < limite) {
+            Thread.onSpinWait();
+        }
+    }
+}
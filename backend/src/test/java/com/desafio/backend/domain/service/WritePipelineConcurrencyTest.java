@@ -0,0 +1,82 @@
+package com.desafio.backend.domain.service;
+
+import com.desafio.backend.domain.model.Empresa;
+import com.desafio.backend.support.ViaCepStub;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class WritePipelineConcurrencyTest {
+
+    private static final int ESCRITAS = 8;
+    private static final int POOL = 4;
+    private static final ViaCepStub viaCep = new ViaCepStub().latencia(Duration.ofSeconds(2));
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("cep.api.url", viaCep::baseUrl);
+        registry.add("cep.client.read-timeout", () -> "PT5S");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> POOL);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        viaCep.close();
+    }
+
+    @Autowired
+    private EmpresaService empresaService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("salvar should not hold pool connections while waiting on a slow ViaCEP")
+    void salvar_ShouldKeepPoolUsageFlat_WhileViaCepIsSlow() throws Exception {
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        ExecutorService clientes = Executors.newFixedThreadPool(ESCRITAS);
+        List<Future<Empresa>> escritas = new ArrayList<>();
+
+        long inicio = System.nanoTime();
+        for (int i = 0; i < ESCRITAS; i++) {
+            Empresa empresa = new Empresa();
+            empresa.setCnpj(String.format("1111111100%04d", i));
+            empresa.setNomeFantasia("Empresa " + i);
+            empresa.setCep(String.format("0100%04d", i));
+            escritas.add(clientes.submit(() -> empresaService.salvar(empresa, null)));
+        }
+
+        int maximoAtivas = 0;
+        Thread.sleep(500);
+        while (Duration.ofNanos(System.nanoTime() - inicio).compareTo(Duration.ofMillis(1800)) < 0) {
+            maximoAtivas = Math.max(maximoAtivas, hikari.getHikariPoolMXBean().getActiveConnections());
+            Thread.sleep(20);
+        }
+
+        for (Future<Empresa> escrita : escritas) {
+            assertNotNull(escrita.get().getId());
+        }
+        Duration total = Duration.ofNanos(System.nanoTime() - inicio);
+        clientes.shutdown();
+
+        assertEquals(0, maximoAtivas, "Nenhuma conexão deveria ficar presa durante a consulta ao ViaCEP");
+        assertTrue(total.compareTo(Duration.ofSeconds(4)) < 0,
+                ESCRITAS + " escritas com pool de " + POOL + " deveriam terminar em uma única rodada de latência, levaram " + total);
+    }
+}
@@ -0,0 +1,24 @@
+package com.desafio.backend.support;
+
+import com.desafio.backend.api.config.ContadorDeConsultas;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Fixa a quantidade de comandos SQL que uma ação executa na thread do teste; com MockMvc a requisição
+ * inteira roda nessa thread. Em caso de falha a mensagem traz os formatos de SQL executados.
+ */
+public final class Consultas {
+
+    private Consultas() {
+    }
+
+    public static <T> T assertConsultas(int esperadas, ThrowingSupplier<T> acao) throws Throwable {
+        try (ContadorDeConsultas.Escopo escopo = ContadorDeConsultas.abrir()) {
+            T resultado = acao.get();
+            assertEquals(esperadas, escopo.total(), () -> "Comandos SQL executados:\n" + escopo.resumo());
+            return resultado;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.desafio.backend.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stub HTTP local do ViaCEP ({@code GET /ws/{cep}/json/}) com latência e taxa de erro configuráveis,
+ * usado nos testes e benchmarks que não podem depender da rede.
+ */
+public class ViaCepStub implements AutoCloseable {
+
+    public static final String THREADS = "viacep-stub";
+
+    private final HttpServer server;
+    private final Map<String, String> ufs = new ConcurrentHashMap<>();
+    private final Set<String> inexistentes = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicInteger> consultasPorCep = new ConcurrentHashMap<>();
+    private final AtomicInteger consultas = new AtomicInteger();
+    private final Queue<Duration> latenciasProgramadas = new ConcurrentLinkedQueue<>();
+    private volatile Duration latencia = Duration.ZERO;
+    private volatile Duration variacao = Duration.ZERO;
+    private volatile double taxaDeErro;
+    private volatile int status = 200;
+
+    public ViaCepStub() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível iniciar o stub do ViaCEP", e);
+        }
+        server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, THREADS);
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.createContext("/ws/", this::responder);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/ws";
+    }
+
+    public ViaCepStub latencia(Duration latencia) {
+        this.latencia = latencia;
+        return this;
+    }
+
+    /**
+     * Latências aplicadas às próximas consultas, em ordem; depois delas volta a valer {@link #latencia(Duration)}.
+     */
+    public ViaCepStub latencias(Duration... proximas) {
+        latenciasProgramadas.addAll(List.of(proximas));
+        return this;
+    }
+
+    /**
+     * Acréscimo aleatório, entre zero e {@code variacao}, somado à latência de cada consulta.
+     */
+    public ViaCepStub variacao(Duration variacao) {
+        this.variacao = variacao;
+        return this;
+    }
+
+    /**
+     * Fração das consultas, entre 0 e 1, respondida com 503.
+     */
+    public ViaCepStub taxaDeErro(double taxaDeErro) {
+        this.taxaDeErro = taxaDeErro;
+        return this;
+    }
+
+    public ViaCepStub status(int status) {
+        this.status = status;
+        return this;
+    }
+
+    public ViaCepStub uf(String cep, String uf) {
+        ufs.put(cep, uf);
+        return this;
+    }
+
+    public ViaCepStub inexistente(String cep) {
+        inexistentes.add(cep);
+        return this;
+    }
+
+    public int consultas() {
+        return consultas.get();
+    }
+
+    public int consultas(String cep) {
+        AtomicInteger contador = consultasPorCep.get(cep);
+        return contador == null ? 0 : contador.get();
+    }
+
+    private void responder(HttpExchange exchange) throws IOException {
+        String cep = exchange.getRequestURI().getPath().replaceAll("^/ws/|/json/?$", "");
+        consultas.incrementAndGet();
+        consultasPorCep.computeIfAbsent(cep, key -> new AtomicInteger()).incrementAndGet();
+        Duration programada = latenciasProgramadas.poll();
+        dormir(programada != null ? programada : latencia.plus(sortear(variacao)));
+
+        if (status != 200) {
+            escrever(exchange, status, "{}");
+            return;
+        }
+        if (taxaDeErro > 0 && ThreadLocalRandom.current().nextDouble() < taxaDeErro) {
+            escrever(exchange, 503, "{}");
+            return;
+        }
+        String corpo = inexistentes.contains(cep)
+                ? "{\"erro\": true}"
+                : String.format("{\"cep\":\"%s-%s\",\"logradouro\":\"Rua Teste\",\"bairro\":\"Centro\",\"localidade\":\"Cidade\",\"uf\":\"%s\"}",
+                        cep.substring(0, 5), cep.substring(5), ufs.getOrDefault(cep, "SP"));
+        escrever(exchange, 200, corpo);
+    }
+
+    private static void escrever(HttpExchange exchange, int status, String corpo) throws IOException {
+        byte[] bytes = corpo.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Duration sortear(Duration maximo) {
+        return maximo.isZero() ? Duration.ZERO : Duration.ofNanos(ThreadLocalRandom.current().nextLong(maximo.toNanos() + 1));
+    }
+
+    private static void dormir(Duration duracao) {
+        if (duracao.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duracao.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -3,11 +3,12 @@ import { HttpClientTestingModule, HttpTestingController } from '@angular/common/
 
 import { CepService } from './cep.service';
 import { CepResponse } from '../models/cep.model';
+import { environment } from '../environments/environment';
 
 describe('CepService', () => {
   let service: CepService;
   let httpMock: HttpTestingController;
-  const viaCepUrlBase = 'https://viacep.com.br/ws';
+  const cepUrlBase = `${environment.apiUrl}/cep`;
 
   beforeEach(() => {
     TestBed.configureTestingModule({
@@ -42,17 +43,14 @@ describe('CepService', () => {
       bairro: 'Vila Teste',
       localidade: 'São Paulo',
       uf: 'SP',
-      ibge: '3550308',
-      gia: '1004',
-      ddd: '11',
-      siafi: '7107'
+      erro: null
     };
 
     service.consultarCep(mockCep).subscribe(response => {
       expect(response).toEqual(mockResponse);
     });
 
-    const req = httpMock.expectOne(`${viaCepUrlBase}/${mockCep}/json/`);
+    const req = httpMock.expectOne(`${cepUrlBase}/${mockCep}`);
     expect(req.request.method).toBe('GET');
 
     req.flush(apiResponse);
@@ -65,20 +63,19 @@ describe('CepService', () => {
       expect(response).toBeNull();
     });
 
-    httpMock.expectNone(`${viaCepUrlBase}/${invalidCep}/json/`);
+    httpMock.expectNone(`${cepUrlBase}/${invalidCep}`);
   });
 
-  it('should return null when ViaCEP API returns an error (e.g., CEP not found)', () => {
+  it('should return null when the backend does not find the CEP', () => {
     const mockCep = '99999999';
-    const apiErrorResponse = { erro: true };
 
     service.consultarCep(mockCep).subscribe(response => {
       expect(response).toBeNull();
     });
 
-    const req = httpMock.expectOne(`${viaCepUrlBase}/${mockCep}/json/`);
+    const req = httpMock.expectOne(`${cepUrlBase}/${mockCep}`);
     expect(req.request.method).toBe('GET');
-    req.flush(apiErrorResponse);
+    req.flush({ status: 404, detail: 'CEP não encontrado: 99999999' }, { status: 404, statusText: 'Not Found' });
   });
 
   it('should return null when HTTP request fails', () => {
@@ -88,8 +85,8 @@ describe('CepService', () => {
       expect(response).toBeNull();
     });
 
-    const req = httpMock.expectOne(`${viaCepUrlBase}/${mockCep}/json/`);
+    const req = httpMock.expectOne(`${cepUrlBase}/${mockCep}`);
     expect(req.request.method).toBe('GET');
-    req.error(new ProgressEvent('error'), { status: 404, statusText: 'Not Found' });
+    req.error(new ProgressEvent('error'), { status: 503, statusText: 'Service Unavailable' });
   });
 });
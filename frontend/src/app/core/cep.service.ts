@@ -3,13 +3,13 @@ import { HttpClient } from '@angular/common/http';
 import { Observable, of } from 'rxjs';
 import { catchError, map } from 'rxjs/operators';
 import { CepResponse } from '../models/cep.model';
+import { environment } from '../environments/environment';
 
 @Injectable({
   providedIn: 'root'
 })
 export class CepService {
-  private readonly VIA_CEP_URL = 'https://viacep.com.br/ws';
-  private readonly CEP_LA_PROXY = '/api/cep';
+  private readonly apiUrl = `${environment.apiUrl}/cep`;
 
   constructor(private http: HttpClient) { }
 
@@ -20,7 +20,7 @@ export class CepService {
       return of(null);
     }
 
-    return this.http.get<any>(`${this.VIA_CEP_URL}/${cepDigits}/json/`).pipe(
+    return this.http.get<any>(`${this.apiUrl}/${cepDigits}`).pipe(
       map(data => {
         if (data.erro) {
           return null;
@@ -34,7 +34,7 @@ export class CepService {
         };
       }),
       catchError(error => {
-        console.error('Erro ao consultar ViaCEP:', error);
+        console.error('Erro ao consultar CEP:', error);
         return of(null);
       })
     );
@@ -7,6 +7,7 @@ import { MatCardModule } from '@angular/material/card';
 import { MatButtonModule } from '@angular/material/button';
 import { MatIconModule } from '@angular/material/icon';
 import { MatProgressSpinnerModule } from '@angular/material/progress-spinner';
+import { MatPaginatorModule, PageEvent } from '@angular/material/paginator';
 import { Empresa } from '../../../models/empresa.model';
 import { EmpresaService } from '../empresa.service';
 
@@ -21,6 +22,7 @@ import { EmpresaService } from '../empresa.service';
     MatButtonModule,
     MatIconModule,
     MatProgressSpinnerModule,
+    MatPaginatorModule,
   ],
   templateUrl: './empresa-list.component.html',
   styleUrls: ['./empresa-list.component.scss']
@@ -29,6 +31,9 @@ export class EmpresaListComponent implements OnInit {
   empresas: Empresa[] = [];
   displayedColumns: string[] = ['cnpj', 'nomeFantasia', 'cep', 'actions'];
   isLoading = false;
+  pageIndex = 0;
+  pageSize = 10;
+  totalElements = 0;
 
   constructor(
     private empresaService: EmpresaService,
@@ -41,9 +46,10 @@ export class EmpresaListComponent implements OnInit {
 
   loadEmpresas(): void {
     this.isLoading = true;
-    this.empresaService.getEmpresas().subscribe({
+    this.empresaService.getEmpresas(this.pageIndex, this.pageSize).subscribe({
       next: (data) => {
-        this.empresas = data;
+        this.empresas = data?.content ?? [];
+        this.totalElements = data?.totalElements ?? 0;
         this.isLoading = false;
       },
       error: (err) => {
@@ -54,6 +60,12 @@ export class EmpresaListComponent implements OnInit {
     });
   }
 
+  onPage(event: PageEvent): void {
+    this.pageIndex = event.pageIndex;
+    this.pageSize = event.pageSize;
+    this.loadEmpresas();
+  }
+
   deleteEmpresa(id: number | undefined): void {
     if (!id) return;
     if (confirm('Tem certeza que deseja excluir esta empresa?')) {
@@ -1,7 +1,9 @@
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
+import { map } from 'rxjs/operators';
 import { Empresa } from '../../models/empresa.model';
+import { Page } from '../../models/fornecedor.model';
 import { environment } from '../../environments/environment';
 
 @Injectable({
@@ -12,8 +14,26 @@ export class EmpresaService {
 
   constructor(private http: HttpClient) { }
 
-  getEmpresas(): Observable<Empresa[]> {
-    return this.http.get<Empresa[]>(this.apiUrl);
+  getEmpresas(page: number, size: number, nomeFantasia?: string, cnpj?: string): Observable<Page<Empresa>> {
+    let params = new HttpParams()
+      .set('page', page.toString())
+      .set('size', size.toString());
+
+    if (nomeFantasia && nomeFantasia.trim() !== '') {
+      params = params.set('nomeFantasia', nomeFantasia.trim());
+    }
+    if (cnpj && cnpj.trim() !== '') {
+      params = params.set('cnpj', cnpj.trim());
+    }
+
+    return this.http.get<Page<Empresa>>(this.apiUrl, { params });
+  }
+
+  getAllEmpresasSimple(): Observable<Empresa[]> {
+    const params = new HttpParams().set('size', '1000');
+    return this.http.get<Page<Empresa>>(this.apiUrl, { params }).pipe(
+      map(page => (page && Array.isArray(page.content)) ? page.content : [])
+    );
   }
 
   getEmpresa(id: number): Observable<Empresa> {
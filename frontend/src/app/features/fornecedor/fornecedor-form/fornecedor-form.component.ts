@@ -155,7 +155,7 @@ export class FornecedorFormComponent implements OnInit, OnDestroy {
   }
 
   loadEmpresas(): void {
-    this.empresaService.getEmpresas()
+    this.empresaService.getAllEmpresasSimple()
       .pipe(takeUntil(this.destroy$))
       .subscribe({
         next: (empresas) => {